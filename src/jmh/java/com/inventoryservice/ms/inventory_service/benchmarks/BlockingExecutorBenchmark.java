@@ -0,0 +1,88 @@
+package com.inventoryservice.ms.inventory_service.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Load test for the virtual-thread mode: a burst of concurrent requests that
+ * each block for {@code blockingMillis} (a JDBC call) on Tomcat's default
+ * 200-thread platform pool versus one virtual thread per request, both on the
+ * same fixed heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms256m", "-Xmx256m" })
+@State(Scope.Benchmark)
+public class BlockingExecutorBenchmark {
+
+  private static final int TOMCAT_MAX_THREADS = 200;
+
+  @Param({ "200", "2000", "10000" })
+  private int concurrentRequests;
+
+  @Param({ "10" })
+  private long blockingMillis;
+
+  private ExecutorService platformPool;
+  private ExecutorService virtualThreads;
+
+  @Setup
+  public void setup() {
+    platformPool = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  @TearDown
+  public void tearDown() {
+    platformPool.shutdownNow();
+    virtualThreads.shutdownNow();
+  }
+
+  @Benchmark
+  public int platformThreadPool() throws Exception {
+    return burst(platformPool);
+  }
+
+  @Benchmark
+  public int virtualThreadPerTask() throws Exception {
+    return burst(virtualThreads);
+  }
+
+  private int burst(ExecutorService executor) throws Exception {
+    long blockingNanos = TimeUnit.MILLISECONDS.toNanos(blockingMillis);
+    List<Future<Integer>> requests = new ArrayList<>(concurrentRequests);
+    for (int i = 0; i < concurrentRequests; i++) {
+      int request = i;
+      requests.add(executor.submit(() -> {
+        LockSupport.parkNanos(blockingNanos);
+        return request;
+      }));
+    }
+    int completed = 0;
+    for (Future<Integer> request : requests) {
+      request.get();
+      completed++;
+    }
+    return completed;
+  }
+}
@@ -0,0 +1,57 @@
+package com.inventoryservice.ms.inventory_service.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Proxy-backed repository that stores nothing: saves return their argument,
+ * lookups find nothing and deletes affect no rows. Stands in for the
+ * bookkeeping tables (processed messages, reservations, outbox) when only the
+ * work around them is being measured.
+ */
+final class DiscardingRepository implements InvocationHandler {
+
+  private DiscardingRepository() {
+  }
+
+  static <T> T create(Class<T> repositoryType) {
+    return repositoryType.cast(Proxy.newProxyInstance(
+        repositoryType.getClassLoader(),
+        new Class<?>[] { repositoryType },
+        new DiscardingRepository()));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) {
+    if (method.getName().startsWith("save")) {
+      return args[0];
+    }
+    switch (method.getName()) {
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "equals":
+        return proxy == args[0];
+      case "toString":
+        return "DiscardingRepository";
+      default:
+        break;
+    }
+    Class<?> returnType = method.getReturnType();
+    if (returnType == Optional.class) {
+      return Optional.empty();
+    }
+    if (returnType == List.class || returnType == Iterable.class) {
+      return List.of();
+    }
+    if (returnType == int.class) {
+      return 0;
+    }
+    if (returnType == long.class) {
+      return 0L;
+    }
+    return null;
+  }
+}
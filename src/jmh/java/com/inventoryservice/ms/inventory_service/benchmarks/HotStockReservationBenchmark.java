@@ -0,0 +1,75 @@
+package com.inventoryservice.ms.inventory_service.benchmarks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
+import com.inventoryservice.ms.inventory_service.messaging.ProductInvalidationPublisher;
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+import com.inventoryservice.ms.inventory_service.services.HotStockLedger;
+import com.inventoryservice.ms.inventory_service.services.OptimisticLockRetryExecutor;
+import com.inventoryservice.ms.inventory_service.services.ProductCache;
+import com.inventoryservice.ms.inventory_service.services.ProductService;
+
+/**
+ * Eight threads reserving one unit of the same product: the conditional row
+ * decrement, serialized on the row lock for one round trip each, versus the
+ * hot-stock ledger, which only reaches the row once per claimed chunk.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class HotStockReservationBenchmark {
+
+  @Param({ "200000" })
+  private long roundTripNanos;
+
+  @Param({ "500" })
+  private int chunkSize;
+
+  private ProductService rowLockService;
+  private ProductService ledgerService;
+  private final List<CreateOrderItemDTO> order = List.of(new CreateOrderItemDTO(1L, 1, 10.0));
+
+  @Setup
+  public void setup() {
+    rowLockService = productService(Set.of());
+    ledgerService = productService(Set.of(1L));
+  }
+
+  @Benchmark
+  public void rowDecrement() {
+    rowLockService.reserveOrderItems(order);
+  }
+
+  @Benchmark
+  public void hotStockLedger() {
+    ledgerService.reserveOrderItems(order);
+  }
+
+  private ProductService productService(Set<Long> hotProductIds) {
+    ProductRepository repository = InMemoryProductRepository.create(1, roundTripNanos);
+    ProductCache cache = new ProductCache(0, Duration.ZERO, new ProductInvalidationPublisher(null, 1));
+    HotStockLedger ledger = new HotStockLedger(hotProductIds, chunkSize, repository, cache, new NoOpTransactionManager());
+    return new ProductService(repository, null, new OptimisticLockRetryExecutor(1, 0, 0), cache, ledger, null);
+  }
+}
@@ -0,0 +1,91 @@
+package com.inventoryservice.ms.inventory_service.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+
+/**
+ * Proxy-backed {@link ProductRepository} that keeps products in a map and parks
+ * the calling thread for {@code roundTripNanos} on every call, standing in for
+ * one database round trip. Quantity updates hold the product's monitor for that
+ * round trip, the way a row lock is held until commit.
+ */
+final class InMemoryProductRepository implements InvocationHandler {
+
+  private final Map<Long, Product> products = new HashMap<>();
+  private final long roundTripNanos;
+
+  private InMemoryProductRepository(int productCount, long roundTripNanos) {
+    this.roundTripNanos = roundTripNanos;
+    for (long id = 1; id <= productCount; id++) {
+      products.put(id, new Product(id, "Produto " + id, "Descrição do produto " + id,
+          Integer.MAX_VALUE, 10.0, LocalDateTime.now(), 0L));
+    }
+  }
+
+  static ProductRepository create(int productCount, long roundTripNanos) {
+    return (ProductRepository) Proxy.newProxyInstance(
+        ProductRepository.class.getClassLoader(),
+        new Class<?>[] { ProductRepository.class },
+        new InMemoryProductRepository(productCount, roundTripNanos));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) {
+    switch (method.getName()) {
+      case "findById":
+        roundTrip();
+        return Optional.ofNullable(products.get((Long) args[0]));
+      case "findAllById":
+        roundTrip();
+        List<Product> found = new ArrayList<>();
+        for (Object id : (Iterable<?>) args[0]) {
+          Product product = products.get((Long) id);
+          if (product != null) {
+            found.add(product);
+          }
+        }
+        return found;
+      case "decrementAvailableQuantity":
+        return updateQuantity((Long) args[0], -(Integer) args[1]);
+      case "incrementAvailableQuantity":
+        return updateQuantity((Long) args[0], (Integer) args[1]);
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "equals":
+        return proxy == args[0];
+      case "toString":
+        return "InMemoryProductRepository";
+      default:
+        throw new UnsupportedOperationException(method.getName());
+    }
+  }
+
+  private int updateQuantity(Long id, int delta) {
+    Product product = products.get(id);
+    synchronized (product) {
+      roundTrip();
+      if (product.getAvailableQuantity() + delta < 0) {
+        return 0;
+      }
+      product.setAvailableQuantity(product.getAvailableQuantity() + delta);
+      return 1;
+    }
+  }
+
+  private void roundTrip() {
+    if (roundTripNanos > 0) {
+      LockSupport.parkNanos(roundTripNanos);
+    }
+  }
+}
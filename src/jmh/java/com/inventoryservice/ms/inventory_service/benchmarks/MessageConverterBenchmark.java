@@ -0,0 +1,90 @@
+package com.inventoryservice.ms.inventory_service.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import com.inventoryservice.ms.inventory_service.config.RabbitMqConfig;
+import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.RabbitMQMessageDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.OrderRequestDTO;
+import com.inventoryservice.ms.inventory_service.messaging.Jackson2CborMessageConverter;
+
+/**
+ * Encodes and decodes an {@code inventory-queue} order of 10 and 500 items as
+ * JSON and as CBOR. Decoding goes through the listener's content-type
+ * delegating converter, as a delivery would. Run with {@code -prof gc} for the
+ * allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageConverterBenchmark {
+
+  @Param({ "10", "500" })
+  private int items;
+
+  private final MessageConverter listenerConverter = new RabbitMqConfig().messageConverter();
+  private final Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+  private final Jackson2CborMessageConverter cborConverter = new Jackson2CborMessageConverter();
+
+  private RabbitMQMessageDTO order;
+  private Message jsonMessage;
+  private Message cborMessage;
+
+  @Setup
+  public void setup() {
+    List<CreateOrderItemDTO> lines = new ArrayList<>(items);
+    for (long id = 1; id <= items; id++) {
+      lines.add(new CreateOrderItemDTO(id, (int) (id % 7) + 1, 19.9 + id));
+    }
+    order = new RabbitMQMessageDTO("order_created", new OrderRequestDTO(42L, lines));
+    jsonMessage = delivery(jsonConverter.toMessage(order, new MessageProperties()));
+    cborMessage = delivery(cborConverter.toMessage(order, new MessageProperties()));
+  }
+
+  @Benchmark
+  public Message encodeJson() {
+    return jsonConverter.toMessage(order, new MessageProperties());
+  }
+
+  @Benchmark
+  public Message encodeCbor() {
+    return cborConverter.toMessage(order, new MessageProperties());
+  }
+
+  @Benchmark
+  public Object decodeJson() {
+    return listenerConverter.fromMessage(jsonMessage);
+  }
+
+  @Benchmark
+  public Object decodeCbor() {
+    return listenerConverter.fromMessage(cborMessage);
+  }
+
+  private static Message delivery(Message message) {
+    // The listener adapter sets the parameter type before converting.
+    message.getMessageProperties().setInferredArgumentType(RabbitMQMessageDTO.class);
+    return message;
+  }
+}
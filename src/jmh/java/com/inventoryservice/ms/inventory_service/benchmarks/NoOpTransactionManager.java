@@ -0,0 +1,25 @@
+package com.inventoryservice.ms.inventory_service.benchmarks;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Transaction manager for services built outside Spring: every
+ * {@code TransactionTemplate} callback runs as is, with nothing to commit.
+ */
+final class NoOpTransactionManager implements PlatformTransactionManager {
+  @Override
+  public TransactionStatus getTransaction(TransactionDefinition definition) {
+    return new SimpleTransactionStatus();
+  }
+
+  @Override
+  public void commit(TransactionStatus status) {
+  }
+
+  @Override
+  public void rollback(TransactionStatus status) {
+  }
+}
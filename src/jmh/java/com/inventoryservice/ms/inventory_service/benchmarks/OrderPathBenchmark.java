@@ -0,0 +1,139 @@
+package com.inventoryservice.ms.inventory_service.benchmarks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.RabbitMQMessageDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.OrderRequestDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.InventoryResponseDTO;
+import com.inventoryservice.ms.inventory_service.entities.enums.OrderItemStatus;
+import com.inventoryservice.ms.inventory_service.messaging.InventoryListener;
+import com.inventoryservice.ms.inventory_service.messaging.OutboxPublisher;
+import com.inventoryservice.ms.inventory_service.messaging.ProductInvalidationPublisher;
+import com.inventoryservice.ms.inventory_service.repositories.OutboxEventRepository;
+import com.inventoryservice.ms.inventory_service.repositories.ProcessedMessageRepository;
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+import com.inventoryservice.ms.inventory_service.repositories.StockReservationRepository;
+import com.inventoryservice.ms.inventory_service.services.HotStockLedger;
+import com.inventoryservice.ms.inventory_service.services.OptimisticLockRetryExecutor;
+import com.inventoryservice.ms.inventory_service.services.ProcessedMessageStore;
+import com.inventoryservice.ms.inventory_service.services.ProductCache;
+import com.inventoryservice.ms.inventory_service.services.ProductService;
+import com.inventoryservice.ms.inventory_service.services.ReservationService;
+
+/**
+ * CPU and allocation cost of the order path with every repository in memory
+ * and no simulated round trips: single-item validation (found and not found),
+ * a 10-item order validated with messages versus outcome-only against
+ * already-loaded products, and {@code InventoryListener.handleOrderCreated} for
+ * a 10-item order that is reserved or rejected. Run with {@code -prof gc} to
+ * catch allocation regressions alongside throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderPathBenchmark {
+
+  private static final int ITEMS = 10;
+
+  private ProductService productService;
+  private InventoryListener listener;
+  private CreateOrderItemDTO item;
+  private CreateOrderItemDTO missingItem;
+  private RabbitMQMessageDTO order;
+  private Map<Long, Product> products;
+  private RabbitMQMessageDTO rejectedOrder;
+  private long messageSequence;
+
+  @Setup
+  public void setup() {
+    ProductRepository repository = InMemoryProductRepository.create(ITEMS, 0);
+    PlatformTransactionManager transactionManager = new NoOpTransactionManager();
+    ProductCache cache = new ProductCache(10_000, Duration.ofMinutes(5), new ProductInvalidationPublisher(null, 1));
+    productService = new ProductService(repository, null, new OptimisticLockRetryExecutor(1, 0, 0), cache,
+        new HotStockLedger(Set.of(), 1, repository, cache, transactionManager), null);
+    ReservationService reservationService = new ReservationService(productService,
+        DiscardingRepository.create(StockReservationRepository.class), null, cache, transactionManager,
+        Duration.ofMinutes(15), 1000);
+    OutboxPublisher outboxPublisher = new OutboxPublisher(
+        DiscardingRepository.create(OutboxEventRepository.class), new Jackson2JsonMessageConverter());
+    ProcessedMessageStore processedMessageStore = new ProcessedMessageStore(
+        DiscardingRepository.create(ProcessedMessageRepository.class), 10_000, Duration.ofHours(24));
+    listener = new InventoryListener(productService, reservationService, outboxPublisher, null,
+        processedMessageStore, transactionManager, new SimpleMeterRegistry());
+
+    item = new CreateOrderItemDTO(1L, 1, 10.0);
+    missingItem = new CreateOrderItemDTO(ITEMS + 1L, 1, 10.0);
+    List<CreateOrderItemDTO> lines = new ArrayList<>(ITEMS);
+    Set<Long> productIds = new HashSet<>();
+    for (long id = 1; id <= ITEMS; id++) {
+      lines.add(new CreateOrderItemDTO(id, 1, 10.0));
+      productIds.add(id);
+    }
+    order = new RabbitMQMessageDTO("order_created", new OrderRequestDTO(1L, lines));
+    products = productService.findAllByIds(productIds);
+    List<CreateOrderItemDTO> rejectedLines = new ArrayList<>(lines);
+    rejectedLines.set(ITEMS - 1, missingItem);
+    rejectedOrder = new RabbitMQMessageDTO("order_created", new OrderRequestDTO(1L, rejectedLines));
+  }
+
+  @Benchmark
+  public InventoryResponseDTO validateOrderItem() {
+    return productService.validateOrderItem(item);
+  }
+
+  @Benchmark
+  public InventoryResponseDTO validateMissingOrderItem() {
+    return productService.validateOrderItem(missingItem);
+  }
+
+  @Benchmark
+  public List<InventoryResponseDTO> validateOrderItems() {
+    return productService.validateOrderItems(order.data().items(), products);
+  }
+
+  @Benchmark
+  public OrderItemStatus checkOrderItems() {
+    return productService.checkOrderItems(order.data().items(), products);
+  }
+
+  @Benchmark
+  public InventoryResponseDTO handleOrderReserved() {
+    return listener.handleOrderCreated(order, nextMessageId());
+  }
+
+  @Benchmark
+  public InventoryResponseDTO handleOrderRejected() {
+    return listener.handleOrderCreated(rejectedOrder, nextMessageId());
+  }
+
+  private String nextMessageId() {
+    // A fresh ID per call, so the idempotency store never short-circuits the work being measured.
+    return "order-" + messageSequence++;
+  }
+}
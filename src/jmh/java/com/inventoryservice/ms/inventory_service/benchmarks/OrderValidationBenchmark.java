@@ -0,0 +1,75 @@
+package com.inventoryservice.ms.inventory_service.benchmarks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
+import com.inventoryservice.ms.inventory_service.messaging.ProductInvalidationPublisher;
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+import com.inventoryservice.ms.inventory_service.services.HotStockLedger;
+import com.inventoryservice.ms.inventory_service.services.OptimisticLockRetryExecutor;
+import com.inventoryservice.ms.inventory_service.services.ProductCache;
+import com.inventoryservice.ms.inventory_service.services.ProductService;
+
+/**
+ * Compares validating an order one {@code findById} per line against the
+ * single {@code findAllById} batch path, for 1, 10 and 100 item orders. The
+ * product cache is disabled so every lookup reaches the repository.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderValidationBenchmark {
+
+  @Param({ "1", "10", "100" })
+  private int items;
+
+  @Param({ "200000" })
+  private long roundTripNanos;
+
+  private ProductService productService;
+  private List<CreateOrderItemDTO> order;
+
+  @Setup
+  public void setup() {
+    ProductRepository repository = InMemoryProductRepository.create(items, roundTripNanos);
+    ProductCache cache = new ProductCache(0, Duration.ZERO, new ProductInvalidationPublisher(null, 1));
+    productService = new ProductService(repository, null, new OptimisticLockRetryExecutor(1, 0, 0), cache,
+        new HotStockLedger(Set.of(), 1, repository, cache, null), null);
+    order = new ArrayList<>(items);
+    for (long id = 1; id <= items; id++) {
+      order.add(new CreateOrderItemDTO(id, 1, 10.0));
+    }
+  }
+
+  @Benchmark
+  public void perItemLookup(Blackhole blackhole) {
+    for (CreateOrderItemDTO item : order) {
+      blackhole.consume(productService.validateOrderItem(item));
+    }
+  }
+
+  @Benchmark
+  public void batchLookup(Blackhole blackhole) {
+    blackhole.consume(productService.validateOrderItems(order));
+  }
+}
@@ -0,0 +1,145 @@
+package com.inventoryservice.ms.inventory_service.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Page 1 versus page 10,000 of the product listing on an in-memory H2
+ * {@code tb_products}: OFFSET pagination plus its COUNT(*) (what
+ * {@code GET /api/v1/products} runs) against the keyset seek on
+ * {@code (created_at, id)} used by {@code GET /api/v1/products/scroll}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductListingBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+  private static final int PRODUCTS = 250_000;
+
+  private static final String OFFSET_QUERY = "SELECT * FROM tb_products "
+      + "ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
+  private static final String COUNT_QUERY = "SELECT COUNT(*) FROM tb_products";
+  private static final String KEYSET_QUERY = "SELECT * FROM tb_products "
+      + "WHERE (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?";
+
+  @Param({ "1", "10000" })
+  private int page;
+
+  private Connection connection;
+  private Timestamp cursorCreatedAt;
+  private long cursorId;
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:listing;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=0;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS tb_products");
+      statement.execute("CREATE TABLE tb_products (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255), "
+          + "description VARCHAR(255), available_quantity INT, price DOUBLE, created_at TIMESTAMP, "
+          + "version BIGINT DEFAULT 0 NOT NULL)");
+      statement.execute("CREATE INDEX idx_products_created_at_id ON tb_products (created_at, id)");
+    }
+
+    LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+    try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO tb_products (name, description, available_quantity, price, created_at) VALUES (?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < PRODUCTS; i++) {
+        insert.setString(1, "Produto " + i);
+        insert.setString(2, "Descrição do produto " + i);
+        insert.setInt(3, 100);
+        insert.setDouble(4, 10.0);
+        insert.setTimestamp(5, Timestamp.valueOf(start.plusSeconds(i / 2)));
+        insert.addBatch();
+        if (i % 5_000 == 0) {
+          insert.executeBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+
+    // The keyset cursor for page N is the last row of page N - 1.
+    if (page > 1) {
+      try (PreparedStatement query = connection.prepareStatement(OFFSET_QUERY)) {
+        query.setInt(1, 1);
+        query.setInt(2, (page - 1) * PAGE_SIZE - 1);
+        try (ResultSet rs = query.executeQuery()) {
+          rs.next();
+          cursorCreatedAt = rs.getTimestamp("created_at");
+          cursorId = rs.getLong("id");
+        }
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE tb_products");
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public void offsetWithCount(Blackhole blackhole) throws SQLException {
+    try (PreparedStatement query = connection.prepareStatement(OFFSET_QUERY)) {
+      query.setInt(1, PAGE_SIZE);
+      query.setInt(2, (page - 1) * PAGE_SIZE);
+      consume(query, blackhole);
+    }
+    try (PreparedStatement count = connection.prepareStatement(COUNT_QUERY)) {
+      consume(count, blackhole);
+    }
+  }
+
+  @Benchmark
+  public void keyset(Blackhole blackhole) throws SQLException {
+    if (page == 1) {
+      try (PreparedStatement query = connection.prepareStatement(
+          "SELECT * FROM tb_products ORDER BY created_at DESC, id DESC LIMIT ?")) {
+        query.setInt(1, PAGE_SIZE + 1);
+        consume(query, blackhole);
+      }
+      return;
+    }
+    try (PreparedStatement query = connection.prepareStatement(KEYSET_QUERY)) {
+      query.setTimestamp(1, cursorCreatedAt);
+      query.setLong(2, cursorId);
+      query.setInt(3, PAGE_SIZE + 1);
+      consume(query, blackhole);
+    }
+  }
+
+  private static void consume(PreparedStatement query, Blackhole blackhole) throws SQLException {
+    try (ResultSet rs = query.executeQuery()) {
+      while (rs.next()) {
+        blackhole.consume(rs.getLong(1));
+      }
+    }
+  }
+}
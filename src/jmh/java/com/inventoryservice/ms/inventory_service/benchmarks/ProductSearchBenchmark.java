@@ -0,0 +1,81 @@
+package com.inventoryservice.ms.inventory_service.benchmarks;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.services.ProductSearchIndex;
+
+/**
+ * Query latency of {@link ProductSearchIndex} over a synthetic pt-BR catalog:
+ * two common exact terms, a rare term, a short prefix that matches a large
+ * share of the catalog, and a typed query (exact terms plus a prefix).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+@State(Scope.Benchmark)
+public class ProductSearchBenchmark {
+
+  private static final String[] NOUNS = { "Caderno", "Caneta", "Garrafa", "Mochila", "Fone", "Mouse", "Teclado",
+      "Cabo", "Carregador", "Luminária", "Lixeira", "Balança", "Tesoura", "Relógio", "Impressora", "Caixa" };
+  private static final String[] ADJECTIVES = { "Térmica", "Inox", "Bluetooth", "Sem Fio", "Azul", "Preto",
+      "Universitário", "Executiva", "Digital", "Escolar", "Turbo", "Slim", "Portátil", "Infantil" };
+  private static final String[] DETAILS = { "com vedação a vácuo", "com capa dura", "com receptor USB",
+      "com bateria de longa duração", "para notebook", "com acabamento em inox", "com ponta arredondada",
+      "compatível com tablets", "com alta velocidade", "com garantia estendida" };
+
+  @Param({ "1000000" })
+  private int products;
+
+  private ProductSearchIndex index;
+
+  @Setup
+  public void setup() {
+    index = new ProductSearchIndex(null, null, null);
+    SplittableRandom random = new SplittableRandom(42);
+    for (long id = 1; id <= products; id++) {
+      Product product = new Product();
+      product.setId(id);
+      product.setName(NOUNS[random.nextInt(NOUNS.length)] + " " + ADJECTIVES[random.nextInt(ADJECTIVES.length)]
+          + " Modelo " + Long.toString(id, 36));
+      product.setDescription("Produto " + DETAILS[random.nextInt(DETAILS.length)]);
+      index.index(product);
+    }
+  }
+
+  @Benchmark
+  public List<Long> commonTerms() {
+    return index.search("garrafa termica ", 20);
+  }
+
+  @Benchmark
+  public List<Long> rareTerm() {
+    return index.search("modelo " + Long.toString(products / 2, 36) + " ", 20);
+  }
+
+  @Benchmark
+  public List<Long> shortPrefix() {
+    return index.search("ca", 20);
+  }
+
+  @Benchmark
+  public List<Long> typedQuery() {
+    return index.search("mochila executiva note", 20);
+  }
+}
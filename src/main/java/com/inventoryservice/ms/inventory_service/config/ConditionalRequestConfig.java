@@ -0,0 +1,26 @@
+package com.inventoryservice.ms.inventory_service.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * ETags for the product listings, hashed from the rendered body. The list is
+ * still queried and serialized, but an unchanged page goes back as a bodyless
+ * 304. {@code GET /products/{id}} builds its ETag from the product version
+ * instead, and {@code /export} is left out because the filter buffers the
+ * whole response.
+ */
+@Configuration
+public class ConditionalRequestConfig {
+
+  @Bean
+  public FilterRegistrationBean<ShallowEtagHeaderFilter> productListEtagFilter() {
+    FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(
+        new ShallowEtagHeaderFilter());
+    registration.addUrlPatterns("/api/v1/products", "/api/v1/products/scroll", "/api/v1/products/filter",
+        "/api/v1/products/search");
+    return registration;
+  }
+}
@@ -0,0 +1,85 @@
+package com.inventoryservice.ms.inventory_service.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.inventoryservice.ms.inventory_service.messaging.OutboxRelay;
+import com.inventoryservice.ms.inventory_service.services.HotStockLedger;
+import com.inventoryservice.ms.inventory_service.services.OptimisticLockRetryExecutor;
+import com.inventoryservice.ms.inventory_service.services.ProductCache;
+
+/**
+ * Publishes the counters the services already keep (retries, cache stats,
+ * outbox confirms, hot-stock allotments) as meters. They are read at scrape
+ * time, so the hot paths keep updating their own LongAdders and atomics.
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public MeterBinder optimisticLockMetrics(OptimisticLockRetryExecutor retryExecutor) {
+    return registry -> {
+      FunctionCounter.builder("inventory.optimistic_lock.retries", retryExecutor,
+          OptimisticLockRetryExecutor::getRetryCount)
+          .description("Product writes retried after an optimistic lock conflict")
+          .register(registry);
+      FunctionCounter.builder("inventory.optimistic_lock.exhausted", retryExecutor,
+          OptimisticLockRetryExecutor::getExhaustedCount)
+          .description("Product writes that gave up after the last retry")
+          .register(registry);
+    };
+  }
+
+  @Bean
+  public MeterBinder productCacheMetrics(ProductCache productCache) {
+    return registry -> {
+      FunctionCounter.builder("inventory.product_cache.requests", productCache, cache -> cache.stats().hitCount())
+          .tag("result", "hit")
+          .register(registry);
+      FunctionCounter.builder("inventory.product_cache.requests", productCache, cache -> cache.stats().missCount())
+          .tag("result", "miss")
+          .register(registry);
+      FunctionCounter.builder("inventory.product_cache.evictions", productCache, cache -> cache.stats().evictionCount())
+          .register(registry);
+    };
+  }
+
+  @Bean
+  public MeterBinder outboxMetrics(OutboxRelay outboxRelay) {
+    return registry -> {
+      FunctionCounter.builder("inventory.outbox.confirms", outboxRelay, OutboxRelay::getConfirmedCount)
+          .tag("result", "ack")
+          .register(registry);
+      FunctionCounter.builder("inventory.outbox.confirms", outboxRelay, OutboxRelay::getNackCount)
+          .tag("result", "nack")
+          .register(registry);
+      FunctionCounter.builder("inventory.outbox.confirms", outboxRelay, OutboxRelay::getUnconfirmedCount)
+          .tag("result", "timeout")
+          .register(registry);
+      FunctionTimer.builder("inventory.outbox.confirm.latency", outboxRelay,
+          relay -> relay.getConfirmedCount() + relay.getNackCount(),
+          OutboxRelay::getConfirmLatencyNanos, TimeUnit.NANOSECONDS)
+          .description("Time from publish to broker confirm for outbox events")
+          .register(registry);
+      Gauge.builder("inventory.outbox.backlog", outboxRelay, OutboxRelay::getBacklog)
+          .description("Outbox events waiting to be relayed")
+          .register(registry);
+    };
+  }
+
+  @Bean
+  public MeterBinder hotStockMetrics(HotStockLedger hotStockLedger) {
+    return registry -> hotStockLedger.productIds().forEach(productId ->
+        Gauge.builder("inventory.hot_stock.held", hotStockLedger, ledger -> ledger.available(productId))
+            .description("Units claimed from the database and not yet sold, per hot product")
+            .tag("product_id", productId.toString())
+            .register(registry));
+  }
+}
@@ -1,15 +1,28 @@
 package com.inventoryservice.ms.inventory_service.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.inventoryservice.ms.inventory_service.messaging.Jackson2CborMessageConverter;
+import com.inventoryservice.ms.inventory_service.messaging.OrderStageTimers;
+import com.inventoryservice.ms.inventory_service.messaging.ProductInvalidationPublisher;
+import com.inventoryservice.ms.inventory_service.messaging.TimedMessageConverter;
+
 @Configuration
 public class RabbitMqConfig {
 
@@ -23,6 +36,19 @@ public class RabbitMqConfig {
     return new DirectExchange("error-exchange");
   }
 
+  @Bean
+  public Queue errorQueue() {
+    return new Queue("error-queue", true);
+  }
+
+  @Bean
+  public Binding bindingError() {
+    return BindingBuilder
+        .bind(errorQueue())
+        .to(errorExchange())
+        .with("error-routing-key");
+  }
+
   @Bean
   public DirectExchange inventoryExchange() {
     return new DirectExchange("inventory-exchange");
@@ -37,16 +63,78 @@ public class RabbitMqConfig {
   }
 
   @Bean
-  public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
+  public FanoutExchange productInvalidationExchange() {
+    return new FanoutExchange(ProductInvalidationPublisher.EXCHANGE);
+  }
+
+  @Bean
+  public Queue productInvalidationQueue() {
+    // One exclusive, auto-delete queue per instance so every replica receives each invalidation.
+    return new AnonymousQueue();
+  }
+
+  @Bean
+  public Binding bindingProductInvalidation() {
+    return BindingBuilder
+        .bind(productInvalidationQueue())
+        .to(productInvalidationExchange());
+  }
+
+  @Bean
+  public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory,
+      MeterRegistry meterRegistry) {
+    return newListenerContainerFactory(configurer, connectionFactory, meterRegistry);
+  }
+
+  @Bean
+  public SimpleRabbitListenerContainerFactory invalidationListenerContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory) {
+    // Cache invalidations are not orders: plain converter, so they stay out of the order-stage timers.
     SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
-    factory.setConnectionFactory(connectionFactory);
+    configurer.configure(factory, connectionFactory);
     factory.setMessageConverter(messageConverter());
-    factory.setErrorHandler(t -> System.err.println("Listener error: " + t.getMessage()));
     return factory;
   }
 
   @Bean
-  public Jackson2JsonMessageConverter messageConverter() {
-    return new Jackson2JsonMessageConverter();
+  public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory,
+      MeterRegistry meterRegistry,
+      @Value("${inventory.rabbitmq.listener.batch-size:50}") int batchSize,
+      @Value("${inventory.rabbitmq.listener.batch-receive-timeout-ms:100}") long receiveTimeoutMillis) {
+    SimpleRabbitListenerContainerFactory factory = newListenerContainerFactory(configurer, connectionFactory, meterRegistry);
+    // Consumer-side batching: up to batch-size deliveries, or whatever arrived within the receive timeout,
+    // reach the listener as one List and are acked with a single multiple-ack.
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(batchSize);
+    factory.setReceiveTimeout(receiveTimeoutMillis);
+    return factory;
+  }
+
+  @Bean
+  public MessageConverter messageConverter() {
+    // Inbound messages are decoded by their content-type; anything else, including producers
+    // that send no content-type, falls back to JSON. Outbound messages stay JSON.
+    ContentTypeDelegatingMessageConverter converter =
+        new ContentTypeDelegatingMessageConverter(new Jackson2JsonMessageConverter());
+    converter.addDelegate(Jackson2CborMessageConverter.CONTENT_TYPE_CBOR, new Jackson2CborMessageConverter());
+    return converter;
+  }
+
+  private SimpleRabbitListenerContainerFactory newListenerContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory,
+      MeterRegistry meterRegistry) {
+    SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    // Applies spring.rabbitmq.listener.simple.* (concurrency, max-concurrency, prefetch, ...).
+    configurer.configure(factory, connectionFactory);
+    factory.setMessageConverter(
+        new TimedMessageConverter(messageConverter(), OrderStageTimers.register(meterRegistry, "deserialize")));
+    return factory;
   }
 }
@@ -0,0 +1,87 @@
+package com.inventoryservice.ms.inventory_service.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Replaces the single auto-configured pool with a primary and one pool per
+ * replica URL when {@code inventory.datasource.replicas.enabled=true}. Every
+ * pool shares the {@code spring.datasource} credentials and
+ * {@code spring.datasource.hikari} settings and reports its own
+ * {@code hikaricp} meters under its pool name.
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventory.datasource.replicas.enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+  @Bean(defaultCandidate = false)
+  public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return pool(properties, environment, meterRegistry, ReadWriteRoutingDataSource.PRIMARY, properties.determineUrl());
+  }
+
+  @Bean
+  public ReplicaDataSources replicaDataSources(DataSourceProperties properties, Environment environment,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${inventory.datasource.replicas.urls}") List<String> urls) {
+    List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+    for (String url : urls) {
+      if (!url.isBlank()) {
+        replicas.add(pool(properties, environment, meterRegistry, "replica-" + (replicas.size() + 1), url.trim()));
+      }
+    }
+    if (replicas.isEmpty()) {
+      throw new IllegalStateException("inventory.datasource.replicas.urls must list at least one replica");
+    }
+    return new ReplicaDataSources(replicas);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+      ReplicaDataSources replicaDataSources) {
+    return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSources));
+  }
+
+  @Bean
+  public MeterBinder replicaMetrics(ReplicaDataSources replicaDataSources) {
+    return registry -> Gauge.builder("inventory.datasource.replicas.healthy", replicaDataSources,
+        ReplicaDataSources::healthyCount)
+        .description("Read replicas currently taking read-only transactions")
+        .register(registry);
+  }
+
+  private static HikariDataSource pool(DataSourceProperties properties, Environment environment,
+      ObjectProvider<MeterRegistry> meterRegistry, String poolName, String url) {
+    HikariDataSource pool = properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .url(url)
+        .build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+    pool.setPoolName(poolName);
+    meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    return pool;
+  }
+}
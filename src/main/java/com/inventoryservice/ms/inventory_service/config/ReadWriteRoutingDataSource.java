@@ -0,0 +1,73 @@
+package com.inventoryservice.ms.inventory_service.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to a
+ * healthy replica and everything else to the primary. The read-only flag is
+ * only bound once the transaction has begun, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which defers the physical connection to the first statement.
+ */
+public final class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+  static final String PRIMARY = "primary";
+
+  private final DataSource primary;
+  private final ReplicaDataSources replicas;
+
+  public ReadWriteRoutingDataSource(DataSource primary, ReplicaDataSources replicas) {
+    this.primary = primary;
+    this.replicas = replicas;
+    Map<Object, Object> targets = new HashMap<>(replicas.targets());
+    targets.put(PRIMARY, primary);
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return PRIMARY;
+    }
+    // No healthy replica: the default target (the primary) takes the read.
+    return replicas.nextKey();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return connect(DataSource::getConnection);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return connect(dataSource -> dataSource.getConnection(username, password));
+  }
+
+  private Connection connect(ConnectionSource source) throws SQLException {
+    DataSource target = determineTargetDataSource();
+    // A replica that refuses a connection leaves the rotation and the next one is tried.
+    while (target != primary) {
+      try {
+        return source.connect(target);
+      } catch (SQLException e) {
+        replicas.markDown(target);
+        target = determineTargetDataSource();
+      }
+    }
+    return source.connect(primary);
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSource {
+    Connection connect(DataSource dataSource) throws SQLException;
+  }
+}
@@ -0,0 +1,102 @@
+package com.inventoryservice.ms.inventory_service.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The read replicas behind {@link ReadWriteRoutingDataSource}, handed out
+ * round-robin among those that passed the last health check. A replica that
+ * fails a check, or refuses a connection, is skipped until a later check finds
+ * it reachable again.
+ */
+public class ReplicaDataSources implements AutoCloseable {
+  private static final Logger log = LoggerFactory.getLogger(ReplicaDataSources.class);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+  private final List<Replica> replicas;
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ReplicaDataSources(List<HikariDataSource> dataSources) {
+    this.replicas = dataSources.stream().map(Replica::new).toList();
+  }
+
+  /** Lookup key to data source, for the routing data source's target map. */
+  public Map<Object, Object> targets() {
+    Map<Object, Object> targets = new LinkedHashMap<>();
+    replicas.forEach(replica -> targets.put(replica.key(), replica.dataSource));
+    return targets;
+  }
+
+  /** The next healthy replica's lookup key, or {@code null} when none is healthy. */
+  public String nextKey() {
+    int size = replicas.size();
+    int start = Math.floorMod(next.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (replica.healthy) {
+        return replica.key();
+      }
+    }
+    return null;
+  }
+
+  public void markDown(Object dataSource) {
+    for (Replica replica : replicas) {
+      if (replica.dataSource == dataSource && replica.healthy) {
+        replica.healthy = false;
+        log.warn("Replica {} is unavailable; reads fall back to the primary", replica.key());
+      }
+    }
+  }
+
+  public int healthyCount() {
+    return (int) replicas.stream().filter(replica -> replica.healthy).count();
+  }
+
+  @Scheduled(fixedDelayString = "${inventory.datasource.replicas.health-check-interval-ms:5000}")
+  public void checkHealth() {
+    for (Replica replica : replicas) {
+      boolean healthy = isReachable(replica.dataSource);
+      if (healthy && !replica.healthy) {
+        log.info("Replica {} is available again", replica.key());
+      }
+      replica.healthy = healthy;
+    }
+  }
+
+  private static boolean isReachable(HikariDataSource dataSource) {
+    try (Connection connection = dataSource.getConnection()) {
+      return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public void close() {
+    replicas.forEach(replica -> replica.dataSource.close());
+  }
+
+  private static final class Replica {
+    private final HikariDataSource dataSource;
+    private volatile boolean healthy = true;
+
+    private Replica(HikariDataSource dataSource) {
+      this.dataSource = dataSource;
+    }
+
+    private String key() {
+      return dataSource.getPoolName();
+    }
+  }
+}
@@ -1,17 +1,34 @@
 package com.inventoryservice.ms.inventory_service.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductFilterDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductRequestDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductUpdateRequestDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.StockAdjustmentDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.UpdateQuantityDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductCursorPageDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductImportResultDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductSummarySliceDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.StockAdjustmentResultDTO;
+import com.inventoryservice.ms.inventory_service.services.ProductExportService;
+import com.inventoryservice.ms.inventory_service.services.ProductImportService;
 import com.inventoryservice.ms.inventory_service.services.ProductService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,9 +41,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class ProductController {
 
   private final ProductService productService;
+  private final ProductExportService productExportService;
+  private final ProductImportService productImportService;
 
-  public ProductController(ProductService productService) {
+  public ProductController(ProductService productService, ProductExportService productExportService,
+      ProductImportService productImportService) {
     this.productService = productService;
+    this.productExportService = productExportService;
+    this.productImportService = productImportService;
   }
 
   @Operation(summary = "List all products with pagination and sorting")
@@ -42,10 +64,67 @@ public class ProductController {
     return ResponseEntity.ok(products);
   }
 
+  @Operation(summary = "List products with cursor (keyset) pagination, newest first")
+  @GetMapping("/scroll")
+  public ResponseEntity<ProductCursorPageDTO> scroll(
+      @Parameter(description = "Opaque cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+      @Parameter(description = "Page size (1-1000)") @RequestParam(defaultValue = "20") int size) {
+    ProductCursorPageDTO page = this.productService.scroll(cursor, size);
+
+    if (page.content().isEmpty()) {
+      return ResponseEntity.noContent().build();
+    }
+
+    return ResponseEntity.ok(page);
+  }
+
+  @Operation(summary = "List product summaries filtered by price, stock and creation date, without a total count")
+  @GetMapping("/filter")
+  public ResponseEntity<ProductSummarySliceDTO> filter(
+      @ParameterObject ProductFilterDTO filter,
+      @Parameter(description = "Page, size and sort (id, name, price, availableQuantity, createdAt)") @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+    ProductSummarySliceDTO slice = this.productService.filter(filter, pageable);
+
+    if (slice.content().isEmpty()) {
+      return ResponseEntity.noContent().build();
+    }
+
+    return ResponseEntity.ok(slice);
+  }
+
+  @Operation(summary = "Search products by name and description (accent-insensitive; the last word also matches as a prefix)")
+  @GetMapping("/search")
+  public ResponseEntity<List<Product>> search(
+      @Parameter(description = "Search text", example = "garrafa termica") @RequestParam String q,
+      @Parameter(description = "Maximum results (1-100)") @RequestParam(defaultValue = "20") int limit) {
+    List<Product> products = this.productService.search(q, limit);
+
+    if (products.isEmpty()) {
+      return ResponseEntity.noContent().build();
+    }
+
+    return ResponseEntity.ok(products);
+  }
+
+  @Operation(summary = "Export the full product catalog as newline-delimited JSON")
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> export() {
+    StreamingResponseBody body = productExportService::exportCatalog;
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
   @Operation(summary = "Find a product by ID")
   @GetMapping("/{id}")
-  public ResponseEntity<Product> findById(@Parameter(description = "Product ID") @PathVariable Long id) {
-    return ResponseEntity.ok(productService.findById(id));
+  public ResponseEntity<Product> findById(@Parameter(description = "Product ID") @PathVariable Long id,
+      WebRequest request) {
+    if (request.checkNotModified(etag(id, productService.findVersion(id)))) {
+      return null;
+    }
+
+    Product product = productService.findById(id);
+    return ResponseEntity.ok().eTag(etag(product.getId(), product.getVersion())).body(product);
   }
 
   @Operation(summary = "Create a new product")
@@ -55,6 +134,14 @@ public class ProductController {
     return ResponseEntity.status(201).body(createdProduct);
   }
 
+  @Operation(summary = "Bulk import products from a JSON array or a CSV file with header")
+  @PostMapping(value = "/import", consumes = { MediaType.APPLICATION_JSON_VALUE, ProductImportService.TEXT_CSV_VALUE })
+  public ResponseEntity<ProductImportResultDTO> importProducts(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+      InputStream body) throws IOException {
+    return ResponseEntity.ok(productImportService.importProducts(body, contentType));
+  }
+
   @Operation(summary = "Update an existing product")
   @PutMapping("/{id}")
   public ResponseEntity<Product> update(
@@ -72,10 +159,20 @@ public class ProductController {
     return ResponseEntity.ok(updatedProduct);
   }
 
+  @Operation(summary = "Apply many stock adjustments (delta or absolute quantity) in one transaction")
+  @PatchMapping("/quantity")
+  public ResponseEntity<List<StockAdjustmentResultDTO>> adjustStock(@RequestBody List<StockAdjustmentDTO> adjustments) {
+    return ResponseEntity.ok(productService.adjustStock(adjustments));
+  }
+
   @Operation(summary = "Remove a product by ID")
   @DeleteMapping("/{id}")
   public ResponseEntity<Void> delete(@Parameter(description = "Product ID") @PathVariable Long id) {
     productService.delete(id);
     return ResponseEntity.noContent().build();
   }
+
+  private static String etag(Long id, Long version) {
+    return id + "-" + version;
+  }
 }
@@ -0,0 +1,36 @@
+package com.inventoryservice.ms.inventory_service.controllers;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.inventoryservice.ms.inventory_service.services.ReservationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Reservations", description = "Stock reservation lifecycle")
+@RestController
+@RequestMapping("/api/v1/reservations")
+public class ReservationController {
+
+  private final ReservationService reservationService;
+
+  public ReservationController(ReservationService reservationService) {
+    this.reservationService = reservationService;
+  }
+
+  @Operation(summary = "Confirm a reservation so its stock is no longer released on expiry")
+  @PostMapping("/{id}/confirm")
+  public ResponseEntity<Void> confirm(@Parameter(description = "Reservation ID") @PathVariable String id) {
+    reservationService.confirm(id);
+    return ResponseEntity.noContent().build();
+  }
+
+  @Operation(summary = "Cancel a reservation and return its stock")
+  @DeleteMapping("/{id}")
+  public ResponseEntity<Void> cancel(@Parameter(description = "Reservation ID") @PathVariable String id) {
+    reservationService.cancel(id);
+    return ResponseEntity.noContent().build();
+  }
+}
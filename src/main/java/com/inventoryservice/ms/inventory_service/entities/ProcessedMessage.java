@@ -0,0 +1,66 @@
+package com.inventoryservice.ms.inventory_service.entities;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import com.inventoryservice.ms.inventory_service.entities.enums.InventoryStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Table(name = "tb_processed_messages", indexes = {
+    @Index(name = "idx_processed_messages_processed_at", columnList = "processed_at")
+})
+
+public class ProcessedMessage implements Persistable<String> {
+
+  @Id
+  @Column(name = "message_id")
+  private String messageId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private InventoryStatus status;
+
+  @Column(columnDefinition = "text")
+  private String message;
+
+  // The reservation a successful order got, so a redelivery is answered with the same payload.
+  @Column(name = "reservation_id")
+  private String reservationId;
+
+  @Column(name = "reservation_expires_at")
+  private LocalDateTime reservationExpiresAt;
+
+  @CreationTimestamp
+  @Column(name = "processed_at", updatable = false)
+  private LocalDateTime processedAt;
+
+  @Override
+  public String getId() {
+    return messageId;
+  }
+
+  @Override
+  public boolean isNew() {
+    // Rows are only ever inserted, so a second insert of the same message ID fails instead of merging.
+    return true;
+  }
+}
@@ -9,7 +9,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,7 +23,11 @@ import lombok.Setter;
 @AllArgsConstructor
 
 @Entity
-@Table(name = "tb_products")
+@Table(name = "tb_products", indexes = {
+    @Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_products_price", columnList = "price"),
+    @Index(name = "idx_products_available_quantity", columnList = "available_quantity")
+})
 
 public class Product {
 
@@ -37,4 +43,8 @@ public class Product {
   @CreationTimestamp
   @Column(name = "created_at", updatable = false)
   private LocalDateTime createdAt;
+
+  @Version
+  @Column(nullable = false, columnDefinition = "bigint default 0")
+  private Long version;
 }
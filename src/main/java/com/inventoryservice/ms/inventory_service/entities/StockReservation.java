@@ -0,0 +1,45 @@
+package com.inventoryservice.ms.inventory_service.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Table(name = "tb_stock_reservations", indexes = {
+    @Index(name = "idx_stock_reservations_expires_at", columnList = "expires_at"),
+    @Index(name = "idx_stock_reservations_reservation_id", columnList = "reservation_id")
+})
+
+public class StockReservation {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "reservation_id", nullable = false)
+  private String reservationId;
+
+  @Column(name = "product_id", nullable = false)
+  private Long productId;
+
+  @Column(nullable = false)
+  private Integer quantity;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
@@ -0,0 +1,10 @@
+package com.inventoryservice.ms.inventory_service.entities.dto;
+
+import java.util.List;
+
+public record ProductInvalidationDTO(
+    String origin,
+    List<Long> productIds,
+    List<Long> reindexIds) {
+
+}
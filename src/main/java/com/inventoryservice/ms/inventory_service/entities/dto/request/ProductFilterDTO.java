@@ -0,0 +1,20 @@
+package com.inventoryservice.ms.inventory_service.entities.dto.request;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * Optional, inclusive bounds for the filtered product listing; a null bound is
+ * not applied. {@code minQuantity=1} lists products in stock, and
+ * {@code maxQuantity} lists those at or below a restock threshold.
+ */
+public record ProductFilterDTO(
+    Double minPrice,
+    Double maxPrice,
+    Integer minQuantity,
+    Integer maxQuantity,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+
+}
@@ -0,0 +1,14 @@
+package com.inventoryservice.ms.inventory_service.entities.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public record StockAdjustmentDTO(
+        Long productId,
+        Integer delta,
+        Integer availableQuantity) {
+
+    @JsonIgnore
+    public boolean isAbsolute() {
+        return availableQuantity != null;
+    }
+}
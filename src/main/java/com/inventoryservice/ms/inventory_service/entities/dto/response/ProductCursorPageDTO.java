@@ -0,0 +1,11 @@
+package com.inventoryservice.ms.inventory_service.entities.dto.response;
+
+import java.util.List;
+
+import com.inventoryservice.ms.inventory_service.entities.Product;
+
+public record ProductCursorPageDTO(
+    List<Product> content,
+    String nextCursor) {
+
+}
@@ -0,0 +1,7 @@
+package com.inventoryservice.ms.inventory_service.entities.dto.response;
+
+public record ProductImportErrorDTO(
+    long row,
+    String message) {
+
+}
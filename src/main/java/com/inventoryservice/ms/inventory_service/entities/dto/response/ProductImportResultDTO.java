@@ -0,0 +1,11 @@
+package com.inventoryservice.ms.inventory_service.entities.dto.response;
+
+import java.util.List;
+
+public record ProductImportResultDTO(
+    long received,
+    long imported,
+    long failed,
+    List<ProductImportErrorDTO> errors) {
+
+}
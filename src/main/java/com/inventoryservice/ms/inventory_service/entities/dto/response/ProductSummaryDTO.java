@@ -0,0 +1,12 @@
+package com.inventoryservice.ms.inventory_service.entities.dto.response;
+
+import java.time.LocalDateTime;
+
+public record ProductSummaryDTO(
+    Long id,
+    String name,
+    Double price,
+    Integer availableQuantity,
+    LocalDateTime createdAt) {
+
+}
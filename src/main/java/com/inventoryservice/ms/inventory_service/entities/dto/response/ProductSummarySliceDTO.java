@@ -0,0 +1,11 @@
+package com.inventoryservice.ms.inventory_service.entities.dto.response;
+
+import java.util.List;
+
+public record ProductSummarySliceDTO(
+    List<ProductSummaryDTO> content,
+    int page,
+    int size,
+    boolean hasNext) {
+
+}
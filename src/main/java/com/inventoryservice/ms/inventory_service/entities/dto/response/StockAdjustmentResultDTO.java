@@ -0,0 +1,9 @@
+package com.inventoryservice.ms.inventory_service.entities.dto.response;
+
+import com.inventoryservice.ms.inventory_service.entities.enums.StockAdjustmentStatus;
+
+public record StockAdjustmentResultDTO(
+    Long productId,
+    StockAdjustmentStatus status) {
+
+}
@@ -0,0 +1,9 @@
+package com.inventoryservice.ms.inventory_service.entities.dto.response;
+
+import java.time.LocalDateTime;
+
+public record StockReservationDTO(
+        String reservationId,
+        LocalDateTime expiresAt) {
+
+}
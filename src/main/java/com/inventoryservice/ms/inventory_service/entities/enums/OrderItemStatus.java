@@ -0,0 +1,8 @@
+package com.inventoryservice.ms.inventory_service.entities.enums;
+
+public enum OrderItemStatus {
+  AVAILABLE,
+  PRODUCT_NOT_FOUND,
+  INSUFFICIENT_STOCK,
+  INVALID
+}
@@ -0,0 +1,9 @@
+package com.inventoryservice.ms.inventory_service.entities.enums;
+
+public enum StockAdjustmentStatus {
+  APPLIED,
+  NOT_FOUND,
+  INSUFFICIENT_STOCK,
+  INVALID,
+  HOT_PRODUCT
+}
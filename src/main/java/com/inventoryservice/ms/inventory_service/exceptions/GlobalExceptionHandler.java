@@ -1,5 +1,6 @@
 package com.inventoryservice.ms.inventory_service.exceptions;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
@@ -25,6 +26,19 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
   }
 
+  @ExceptionHandler(ReservationNotFoundException.class)
+  public ResponseEntity<ApiError> handleReservationNotFound(
+      ReservationNotFoundException ex,
+      HttpServletRequest request) {
+    ApiError error = new ApiError(
+        HttpStatus.NOT_FOUND.value(),
+        "Not Found",
+        ex.getMessage(),
+        request.getRequestURI());
+
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+  }
+
   @ExceptionHandler(InsufficientStockException.class)
   public ResponseEntity<ApiError> handleInsufficientStock(
       InsufficientStockException ex,
@@ -37,6 +51,54 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
   }
 
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ApiError> handleInvalidCursor(
+      InvalidCursorException ex,
+      HttpServletRequest request) {
+    ApiError error = new ApiError(
+        HttpStatus.BAD_REQUEST.value(),
+        "Bad Request",
+        ex.getMessage(),
+        request.getRequestURI());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+
+  @ExceptionHandler(InvalidProductFilterException.class)
+  public ResponseEntity<ApiError> handleInvalidProductFilter(
+      InvalidProductFilterException ex,
+      HttpServletRequest request) {
+    ApiError error = new ApiError(
+        HttpStatus.BAD_REQUEST.value(),
+        "Bad Request",
+        ex.getMessage(),
+        request.getRequestURI());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+
+  @ExceptionHandler(HotProductQuantityException.class)
+  public ResponseEntity<ApiError> handleHotProductQuantity(
+      HotProductQuantityException ex,
+      HttpServletRequest request) {
+    ApiError error = new ApiError(
+        HttpStatus.CONFLICT.value(),
+        "Conflict",
+        ex.getMessage(),
+        request.getRequestURI());
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ApiError> handleOptimisticLockingFailure(
+      OptimisticLockingFailureException ex,
+      HttpServletRequest request) {
+    ApiError error = new ApiError(
+        HttpStatus.CONFLICT.value(),
+        "Conflict",
+        "O produto foi alterado por outra operação. Tente novamente.",
+        request.getRequestURI());
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+  }
+
   @SuppressWarnings("null")
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ApiError> handleValidationException(
@@ -0,0 +1,12 @@
+package com.inventoryservice.ms.inventory_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class HotProductQuantityException extends RuntimeException {
+  public HotProductQuantityException(Long productId) {
+    super("O produto ID " + productId + " é atendido pelo hot-stock ledger; ajuste o estoque com delta em "
+        + "PATCH /products/quantity");
+  }
+}
@@ -0,0 +1,11 @@
+package com.inventoryservice.ms.inventory_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidOrderQuantityException extends RuntimeException {
+  public InvalidOrderQuantityException(Long productId) {
+    super("A quantidade solicitada para o produto ID " + productId + " deve ser maior que zero.");
+  }
+}
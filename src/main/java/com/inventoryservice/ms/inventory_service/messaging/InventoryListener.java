@@ -1,70 +1,232 @@
 package com.inventoryservice.ms.inventory_service.messaging;
 
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.springframework.amqp.core.Address;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.RabbitMQMessageDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.OrderRequestDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.response.ErrorMessageDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.response.InventoryResponseDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.StockReservationDTO;
 import com.inventoryservice.ms.inventory_service.entities.enums.ErrorType;
 import com.inventoryservice.ms.inventory_service.entities.enums.InventoryStatus;
+import com.inventoryservice.ms.inventory_service.entities.enums.OrderItemStatus;
 import com.inventoryservice.ms.inventory_service.exceptions.InsufficientStockException;
 import com.inventoryservice.ms.inventory_service.exceptions.ProductNotFoundException;
+import com.inventoryservice.ms.inventory_service.services.ProcessedMessageStore;
 import com.inventoryservice.ms.inventory_service.services.ProductService;
+import com.inventoryservice.ms.inventory_service.services.ReservationService;
 
 @Component
 public class InventoryListener {
+  private static final String ORDER_WITHOUT_ITEMS_MESSAGE = "Pedido sem itens";
 
   private final ProductService productService;
+  private final ReservationService reservationService;
+  private final OutboxPublisher outboxPublisher;
   private final RabbitTemplate rabbitTemplate;
+  private final ProcessedMessageStore processedMessageStore;
+  private final TransactionTemplate transactionTemplate;
+  private final Timer fetchTimer;
+  private final Timer validateTimer;
+  private final Timer reserveTimer;
+  private final Timer errorPublishTimer;
+  private final AtomicInteger inFlight = new AtomicInteger();
 
-  public InventoryListener(ProductService productService, RabbitTemplate rabbitTemplate) {
+  public InventoryListener(ProductService productService, ReservationService reservationService,
+      OutboxPublisher outboxPublisher, RabbitTemplate rabbitTemplate, ProcessedMessageStore processedMessageStore,
+      PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
     this.productService = productService;
+    this.reservationService = reservationService;
+    this.outboxPublisher = outboxPublisher;
     this.rabbitTemplate = rabbitTemplate;
+    this.processedMessageStore = processedMessageStore;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.fetchTimer = OrderStageTimers.register(meterRegistry, "fetch");
+    this.validateTimer = OrderStageTimers.register(meterRegistry, "validate");
+    this.reserveTimer = OrderStageTimers.register(meterRegistry, "reserve");
+    this.errorPublishTimer = OrderStageTimers.register(meterRegistry, "error_publish");
+    Gauge.builder("inventory.orders.in_flight", inFlight, AtomicInteger::get)
+        .description("Orders currently being validated or reserved")
+        .register(meterRegistry);
   }
 
-  @RabbitListener(queues = "inventory-queue")
-  public InventoryResponseDTO handleOrderCreated(RabbitMQMessageDTO rabbitmqMessage) {
-    try {
-      OrderRequestDTO orderRequest = rabbitmqMessage.data();
+  @RabbitListener(queues = "inventory-queue",
+      autoStartup = "#{'${inventory.rabbitmq.listener.mode:single}' != 'batch'}")
+  public InventoryResponseDTO handleOrderCreated(RabbitMQMessageDTO rabbitmqMessage,
+      @Header(name = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
+    OrderRequestDTO orderRequest = rabbitmqMessage.data();
+    return processOrder(messageId, orderRequest,
+        () -> fetchTimer.record(() -> productService.findAllByIds(productIds(orderRequest.items()))));
+  }
+
+  @RabbitListener(queues = "inventory-queue", containerFactory = "batchRabbitListenerContainerFactory",
+      autoStartup = "#{'${inventory.rabbitmq.listener.mode:single}' == 'batch'}")
+  public void handleOrderBatch(List<Message<RabbitMQMessageDTO>> messages) {
+    // One product lookup for the whole chunk; reserveOrderItems still re-checks stock atomically per order.
+    Set<Long> productIds = messages.stream()
+        .map(message -> message.getPayload().data())
+        .filter(orderRequest -> orderRequest != null && orderRequest.items() != null)
+        .flatMap(orderRequest -> orderRequest.items().stream())
+        .map(CreateOrderItemDTO::productId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    Map<Long, Product> products = fetchTimer.record(() -> productService.findAllByIds(productIds));
+
+    for (Message<RabbitMQMessageDTO> message : messages) {
+      OrderRequestDTO orderRequest = message.getPayload().data();
+      InventoryResponseDTO response = processOrder(message.getHeaders().get(AmqpHeaders.MESSAGE_ID, String.class),
+          orderRequest, () -> products);
+      reply(message.getHeaders(), response);
+    }
+  }
 
-      for (var item : orderRequest.items()) {
-        InventoryResponseDTO response = productService.validateOrderItem(item);
-        if (response.status() == InventoryStatus.ERROR) {
-          publishErrorToQueue(ErrorType.VALIDATION_ERROR, response.message(), orderRequest);
-          return response;
+  private InventoryResponseDTO processOrder(String messageId, OrderRequestDTO orderRequest,
+      Supplier<Map<Long, Product>> productLookup) {
+    // A redelivered message gets the answer it got the first time, without validating or reserving again.
+    // Only the message ID is a dedupe key: RabbitTemplate correlation IDs come from a per-template counter
+    // that restarts with the producer, so they repeat across unrelated orders. Without an ID, nothing is tracked.
+    Optional<InventoryResponseDTO> previous = processedMessageStore.find(messageId);
+    if (previous.isPresent()) {
+      return previous.get();
+    }
+    inFlight.incrementAndGet();
+    try {
+      if (orderRequest == null || orderRequest.items() == null) {
+        // Rejected like any other invalid order, so one malformed message cannot fail a whole batch.
+        return reject(messageId, ErrorType.VALIDATION_ERROR, ORDER_WITHOUT_ITEMS_MESSAGE, orderRequest,
+            new InventoryResponseDTO(InventoryStatus.ERROR, ORDER_WITHOUT_ITEMS_MESSAGE, null));
+      }
+      List<CreateOrderItemDTO> items = orderRequest.items();
+      Map<Long, Product> products = productLookup.get();
+      // The common case needs only the outcome; per-item messages are built just for orders being rejected.
+      OrderItemStatus outcome = validateTimer.record(() -> productService.checkOrderItems(items, products));
+      if (outcome != OrderItemStatus.AVAILABLE) {
+        for (InventoryResponseDTO response : productService.validateOrderItems(items, products)) {
+          if (response.status() == InventoryStatus.ERROR) {
+            return reject(messageId, ErrorType.VALIDATION_ERROR, response.message(), orderRequest, response);
+          }
         }
       }
 
-      return new InventoryResponseDTO(
-          InventoryStatus.SUCCESS,
-          "Todos os itens do pedido foram validados com sucesso",
-          null);
+      // The stock decrement and the processed-message row commit together, so a reservation is never repeated.
+      // The message ID doubles as the reservation ID, so the sender can confirm or cancel by the ID it already has.
+      String reservationId = messageId != null ? messageId : UUID.randomUUID().toString();
+      return reserveTimer.record(() -> reserve(messageId, reservationId, items));
 
+    } catch (DataIntegrityViolationException e) {
+      // Another delivery of the same message committed first; its outcome stands.
+      return processedMessageStore.find(messageId).orElseThrow(() -> e);
     } catch (ProductNotFoundException e) {
-      publishErrorToQueue(ErrorType.PRODUCT_NOT_FOUND, e.getMessage(), rabbitmqMessage.data());
-      return new InventoryResponseDTO(
-          InventoryStatus.ERROR,
-          e.getMessage(),
-          null);
+      return reject(messageId, ErrorType.PRODUCT_NOT_FOUND, e.getMessage(), orderRequest,
+          new InventoryResponseDTO(
+              InventoryStatus.ERROR,
+              e.getMessage(),
+              null));
     } catch (InsufficientStockException e) {
-      publishErrorToQueue(ErrorType.INSUFFICIENT_STOCK, e.getMessage(), rabbitmqMessage.data());
-      return new InventoryResponseDTO(
-          InventoryStatus.ERROR,
-          e.getMessage(),
-          null);
+      return reject(messageId, ErrorType.INSUFFICIENT_STOCK, e.getMessage(), orderRequest,
+          new InventoryResponseDTO(
+              InventoryStatus.ERROR,
+              e.getMessage(),
+              null));
     } catch (Exception e) {
-      publishErrorToQueue(ErrorType.GENERIC_ERROR, "Não foi possível processar o pedido: " + e.getMessage(),
-          rabbitmqMessage.data());
-      return new InventoryResponseDTO(
-          InventoryStatus.ERROR,
-          "Não foi possível processar o pedido no momento. Tente novamente mais tarde: " + e.getMessage(),
-          null);
+      return reject(messageId, ErrorType.GENERIC_ERROR, "Não foi possível processar o pedido: " + e.getMessage(),
+          orderRequest,
+          new InventoryResponseDTO(
+              InventoryStatus.ERROR,
+              "Não foi possível processar o pedido no momento. Tente novamente mais tarde: " + e.getMessage(),
+              null));
+    } finally {
+      inFlight.decrementAndGet();
+    }
+  }
+
+  private InventoryResponseDTO reserve(String messageId, String reservationId, List<CreateOrderItemDTO> items) {
+    // Hot-product stock is taken before the transaction opens, so a chunk claim never needs a second connection.
+    Map<Long, Integer> heldHotStock = productService.holdHotStock(items);
+    try {
+      return transactionTemplate.execute(status -> {
+        StockReservationDTO reservation = reservationService.reserve(reservationId, items, heldHotStock);
+        InventoryResponseDTO success = new InventoryResponseDTO(
+            InventoryStatus.SUCCESS,
+            "Todos os itens do pedido foram validados e reservados com sucesso",
+            reservation);
+        processedMessageStore.record(messageId, success);
+        return success;
+      });
+    } catch (RuntimeException e) {
+      productService.releaseHotStock(heldHotStock);
+      throw e;
+    }
+  }
+
+  private InventoryResponseDTO reject(String messageId, ErrorType errorType, String message,
+      OrderRequestDTO orderRequest, InventoryResponseDTO response) {
+    // A generic error may be transient (timeout, lock conflict), so a resend with the same ID is processed again.
+    boolean finalOutcome = errorType != ErrorType.GENERIC_ERROR;
+    try {
+      errorPublishTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+        publishErrorToQueue(errorType, message, orderRequest);
+        if (finalOutcome) {
+          processedMessageStore.record(messageId, response);
+        }
+      }));
+    } catch (DataIntegrityViolationException e) {
+      // Another delivery of the same message committed first; its outcome stands.
+      return processedMessageStore.find(messageId).orElseThrow(() -> e);
+    }
+    return response;
+  }
+
+  private static Set<Long> productIds(List<CreateOrderItemDTO> items) {
+    Set<Long> productIds = new HashSet<>();
+    for (CreateOrderItemDTO item : items) {
+      if (item.productId() != null) {
+        productIds.add(item.productId());
+      }
+    }
+    return productIds;
+  }
+
+  private void reply(MessageHeaders headers, InventoryResponseDTO response) {
+    // Batch listeners cannot return a reply, so send the one handleOrderCreated would have returned.
+    String replyTo = headers.get(AmqpHeaders.REPLY_TO, String.class);
+    if (replyTo == null) {
+      return;
     }
+    Address address = new Address(replyTo);
+    String correlationId = headers.get(AmqpHeaders.CORRELATION_ID, String.class);
+    rabbitTemplate.convertAndSend(address.getExchangeName(), address.getRoutingKey(), response, reply -> {
+      reply.getMessageProperties().setCorrelationId(correlationId);
+      return reply;
+    });
   }
 
   private void publishErrorToQueue(ErrorType errorType, String message, OrderRequestDTO orderRequest) {
@@ -73,7 +235,6 @@ public class InventoryListener {
         message,
         orderRequest,
         Instant.now());
-    rabbitTemplate.convertAndSend("error-exchange", "error-routing-key", errorMessage);
-    System.out.println("Published error to error-queue: " + errorMessage);
+    outboxPublisher.enqueue("error-exchange", "error-routing-key", errorMessage);
   }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Consumer lag for {@code inventory-queue}: ready messages and attached
+ * consumers, polled from the broker on a schedule so a scrape never waits on
+ * it. Both read NaN while the broker cannot be reached.
+ */
+@Component
+public class InventoryQueueMonitor implements MeterBinder {
+  private static final String QUEUE = "inventory-queue";
+
+  private final AmqpAdmin amqpAdmin;
+  private volatile double messageCount = Double.NaN;
+  private volatile double consumerCount = Double.NaN;
+
+  public InventoryQueueMonitor(AmqpAdmin amqpAdmin) {
+    this.amqpAdmin = amqpAdmin;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("inventory.queue.messages", this, monitor -> monitor.messageCount)
+        .description("Messages ready in the queue, waiting for a consumer")
+        .tag("queue", QUEUE)
+        .register(registry);
+    Gauge.builder("inventory.queue.consumers", this, monitor -> monitor.consumerCount)
+        .description("Consumers attached to the queue")
+        .tag("queue", QUEUE)
+        .register(registry);
+  }
+
+  @Scheduled(fixedDelayString = "${inventory.metrics.queue-poll-interval-ms:5000}")
+  public void poll() {
+    try {
+      QueueInformation info = amqpAdmin.getQueueInfo(QUEUE);
+      messageCount = info == null ? Double.NaN : info.getMessageCount();
+      consumerCount = info == null ? Double.NaN : info.getConsumerCount();
+    } catch (AmqpException e) {
+      messageCount = Double.NaN;
+      consumerCount = Double.NaN;
+    }
+  }
+}
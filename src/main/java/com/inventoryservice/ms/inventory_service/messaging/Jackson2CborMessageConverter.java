@@ -0,0 +1,53 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJackson2MessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+/**
+ * Jackson converter for {@code application/cbor} payloads. Same records, same
+ * {@code __TypeId__} headers and type inference as
+ * {@link org.springframework.amqp.support.converter.Jackson2JsonMessageConverter},
+ * but the body is binary CBOR, so it is decoded from the bytes instead of through
+ * a charset.
+ */
+public class Jackson2CborMessageConverter extends AbstractJackson2MessageConverter {
+
+  public static final String CONTENT_TYPE_CBOR = "application/cbor";
+
+  public Jackson2CborMessageConverter() {
+    // Configured like JacksonUtils.enhancedObjectMapper() behind the JSON converter, so both formats decode alike.
+    super(CBORMapper.builder()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .findAndAddModules()
+        .build(), MimeType.valueOf(CONTENT_TYPE_CBOR), "*");
+  }
+
+  @Override
+  protected Message createMessage(Object object, MessageProperties messageProperties, Type genericType) {
+    Message message = super.createMessage(object, messageProperties, genericType);
+    // A binary body has no character encoding.
+    message.getMessageProperties().setContentEncoding(null);
+    return message;
+  }
+
+  @Override
+  public Object fromMessage(Message message, Object conversionHint) {
+    // The listener's parameter type (inferred) wins over __TypeId__, as with JSON.
+    JavaType targetType = getJavaTypeMapper().toJavaType(message.getMessageProperties());
+    try {
+      return objectMapper.readValue(message.getBody(), targetType);
+    } catch (IOException e) {
+      throw new MessageConversionException("Failed to convert CBOR message content", e);
+    }
+  }
+}
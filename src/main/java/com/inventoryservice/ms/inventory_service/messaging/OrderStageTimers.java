@@ -0,0 +1,28 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@code inventory.order.stage} timer, one series per stage of handling an
+ * {@code inventory-queue} delivery (deserialize, fetch, validate, reserve,
+ * error_publish). Each publishes a histogram, so p99 can be read per stage.
+ */
+public final class OrderStageTimers {
+  public static final String NAME = "inventory.order.stage";
+
+  private OrderStageTimers() {
+  }
+
+  public static Timer register(MeterRegistry registry, String stage) {
+    return Timer.builder(NAME)
+        .description("Time spent in each stage of processing an inventory-queue order")
+        .tag("stage", stage)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofNanos(100_000))
+        .maximumExpectedValue(Duration.ofSeconds(30))
+        .register(registry);
+  }
+}
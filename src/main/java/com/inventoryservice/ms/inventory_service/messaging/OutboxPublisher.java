@@ -0,0 +1,40 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+
+import com.inventoryservice.ms.inventory_service.entities.OutboxEvent;
+import com.inventoryservice.ms.inventory_service.repositories.OutboxEventRepository;
+
+/**
+ * Records outgoing messages in {@code tb_outbox_events} instead of sending them.
+ * The row joins the caller's transaction when there is one, and
+ * {@link OutboxRelay} publishes it after commit.
+ */
+@Component
+public class OutboxPublisher {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final MessageConverter messageConverter;
+
+  public OutboxPublisher(OutboxEventRepository outboxEventRepository, MessageConverter messageConverter) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.messageConverter = messageConverter;
+  }
+
+  public void enqueue(String exchange, String routingKey, Object payload) {
+    // Converted here with the broker's converter, so the relay sends exactly what convertAndSend would have.
+    Message message = messageConverter.toMessage(payload, new MessageProperties());
+    OutboxEvent event = new OutboxEvent();
+    event.setExchange(exchange);
+    event.setRoutingKey(routingKey);
+    event.setTypeId(message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME));
+    event.setPayload(new String(message.getBody(), StandardCharsets.UTF_8));
+    outboxEventRepository.save(event);
+  }
+}
@@ -0,0 +1,164 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inventoryservice.ms.inventory_service.entities.OutboxEvent;
+import com.inventoryservice.ms.inventory_service.repositories.OutboxEventRepository;
+
+/**
+ * Drains {@code tb_outbox_events} in batches. A batch is sent as a window of
+ * correlated publishes whose confirms are awaited together, and only acked rows
+ * are deleted; nacked or unconfirmed rows stay for the next run, so delivery is
+ * at-least-once and the message ID ({@code outbox-<id>}) identifies repeats.
+ */
+@Component
+public class OutboxRelay {
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final RabbitTemplate rabbitTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final long confirmTimeoutMillis;
+  private final LongAdder confirmed = new LongAdder();
+  private final LongAdder nacked = new LongAdder();
+  private final LongAdder unconfirmed = new LongAdder();
+  private final LongAdder confirmLatencyNanos = new LongAdder();
+  private final AtomicLong backlog = new AtomicLong();
+
+  public OutboxRelay(
+      OutboxEventRepository outboxEventRepository,
+      RabbitTemplate rabbitTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${inventory.outbox.batch-size:100}") int batchSize,
+      @Value("${inventory.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMillis) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.rabbitTemplate = rabbitTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = Math.max(1, batchSize);
+    this.confirmTimeoutMillis = confirmTimeoutMillis;
+  }
+
+  @Scheduled(fixedDelayString = "${inventory.outbox.relay-interval-ms:200}")
+  public void relay() {
+    try {
+      while (relayBatch() == batchSize) {
+        // A fully acked batch means more rows are probably waiting; keep draining.
+      }
+    } catch (AmqpException e) {
+      log.warn("Failed to relay outbox events", e);
+    }
+  }
+
+  /** Counts the waiting rows on a schedule, so a metrics scrape never queries the database. */
+  @Scheduled(fixedDelayString = "${inventory.metrics.outbox-poll-interval-ms:5000}")
+  public void refreshBacklog() {
+    try {
+      backlog.set(outboxEventRepository.count());
+    } catch (DataAccessException e) {
+      // Keep the last known value until the database answers again.
+    }
+  }
+
+  public long getBacklog() {
+    return backlog.get();
+  }
+
+  public long getConfirmedCount() {
+    return confirmed.sum();
+  }
+
+  public long getNackCount() {
+    return nacked.sum();
+  }
+
+  public long getUnconfirmedCount() {
+    return unconfirmed.sum();
+  }
+
+  public long getConfirmLatencyNanos() {
+    return confirmLatencyNanos.sum();
+  }
+
+  int relayBatch() {
+    Integer relayed = transactionTemplate.execute(status -> {
+      List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+      if (events.isEmpty()) {
+        return 0;
+      }
+      // The whole batch is in flight before the first confirm is awaited; batch-size bounds the window.
+      List<CorrelationData> correlations = new ArrayList<>(events.size());
+      for (OutboxEvent event : events) {
+        CorrelationData correlation = new CorrelationData("outbox-" + event.getId());
+        long sentAt = System.nanoTime();
+        correlation.getFuture().thenAccept(confirm -> confirmLatencyNanos.add(System.nanoTime() - sentAt));
+        rabbitTemplate.send(event.getExchange(), event.getRoutingKey(), toMessage(event), correlation);
+        correlations.add(correlation);
+      }
+
+      List<Long> acked = new ArrayList<>(events.size());
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMillis);
+      for (int i = 0; i < events.size(); i++) {
+        if (awaitAck(correlations.get(i), deadline)) {
+          acked.add(events.get(i).getId());
+        }
+      }
+      outboxEventRepository.deleteAllByIdInBatch(acked);
+      return acked.size();
+    });
+    return relayed == null ? 0 : relayed;
+  }
+
+  private boolean awaitAck(CorrelationData correlation, long deadline) {
+    try {
+      Confirm confirm = correlation.getFuture().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      if (confirm.isAck()) {
+        confirmed.increment();
+        return true;
+      }
+      nacked.increment();
+      log.warn("Broker nacked {}: {}", correlation.getId(), confirm.getReason());
+    } catch (TimeoutException | ExecutionException e) {
+      unconfirmed.increment();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      unconfirmed.increment();
+    }
+    return false;
+  }
+
+  private static Message toMessage(OutboxEvent event) {
+    return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+        .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+        .setContentEncoding(StandardCharsets.UTF_8.name())
+        .setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getTypeId())
+        .setMessageId("outbox-" + event.getId())
+        .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+        .build();
+  }
+}
@@ -0,0 +1,37 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.inventoryservice.ms.inventory_service.entities.dto.ProductInvalidationDTO;
+import com.inventoryservice.ms.inventory_service.services.ProductCache;
+import com.inventoryservice.ms.inventory_service.services.ProductSearchIndex;
+
+@Component
+public class ProductInvalidationListener {
+
+  private final ProductCache productCache;
+  private final ProductInvalidationPublisher invalidationPublisher;
+  private final ProductSearchIndex productSearchIndex;
+
+  public ProductInvalidationListener(ProductCache productCache, ProductInvalidationPublisher invalidationPublisher,
+      ProductSearchIndex productSearchIndex) {
+    this.productCache = productCache;
+    this.invalidationPublisher = invalidationPublisher;
+    this.productSearchIndex = productSearchIndex;
+  }
+
+  @RabbitListener(queues = "#{productInvalidationQueue.name}", containerFactory = "invalidationListenerContainerFactory",
+      concurrency = "1")
+  public void handleInvalidation(ProductInvalidationDTO invalidation) {
+    if (invalidationPublisher.getInstanceId().equals(invalidation.origin())) {
+      return;
+    }
+    productCache.evictLocal(invalidation.productIds());
+    // Stock-only writes leave the indexed name and description alone; only reindexIds are reloaded for search.
+    if (invalidation.reindexIds() != null && !invalidation.reindexIds().isEmpty()) {
+      productCache.evictLocal(invalidation.reindexIds());
+      productSearchIndex.markStale(invalidation.reindexIds());
+    }
+  }
+}
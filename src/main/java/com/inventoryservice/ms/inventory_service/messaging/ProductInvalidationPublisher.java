@@ -0,0 +1,79 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.inventoryservice.ms.inventory_service.entities.dto.ProductInvalidationDTO;
+
+@Component
+public class ProductInvalidationPublisher {
+  private static final Logger log = LoggerFactory.getLogger(ProductInvalidationPublisher.class);
+
+  public static final String EXCHANGE = "product-invalidation-exchange";
+
+  private final RabbitTemplate rabbitTemplate;
+  private final int maxIdsPerMessage;
+  private final String instanceId = UUID.randomUUID().toString();
+  private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+  private final Set<Long> pendingReindex = ConcurrentHashMap.newKeySet();
+
+  public ProductInvalidationPublisher(
+      RabbitTemplate rabbitTemplate,
+      @Value("${inventory.cache.invalidation.max-ids-per-message:1000}") int maxIdsPerMessage) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.maxIdsPerMessage = Math.max(1, maxIdsPerMessage);
+  }
+
+  public String getInstanceId() {
+    return instanceId;
+  }
+
+  public void enqueue(Collection<Long> productIds) {
+    pending.addAll(productIds);
+  }
+
+  /** Products whose name or description changed, or that were inserted: other instances reindex them too. */
+  public void enqueueReindex(Collection<Long> productIds) {
+    pendingReindex.addAll(productIds);
+  }
+
+  @Scheduled(fixedDelayString = "${inventory.cache.invalidation.flush-interval-ms:100}")
+  public void flush() {
+    // Bursts of writes to the same products collapse into one ID per flush window.
+    while (!pending.isEmpty() || !pendingReindex.isEmpty()) {
+      List<Long> reindexIds = drain(pendingReindex, maxIdsPerMessage);
+      List<Long> productIds = drain(pending, maxIdsPerMessage - reindexIds.size());
+      try {
+        rabbitTemplate.convertAndSend(EXCHANGE, "", new ProductInvalidationDTO(instanceId, productIds, reindexIds));
+      } catch (AmqpException e) {
+        pending.addAll(productIds);
+        pendingReindex.addAll(reindexIds);
+        // Other instances keep serving the stale entries until a later flush gets through.
+        log.error("Failed to publish product invalidation; will retry on the next flush", e);
+        return;
+      }
+    }
+  }
+
+  private static List<Long> drain(Set<Long> source, int limit) {
+    List<Long> productIds = new ArrayList<>(Math.min(source.size(), limit));
+    for (Iterator<Long> it = source.iterator(); it.hasNext() && productIds.size() < limit;) {
+      productIds.add(it.next());
+      it.remove();
+    }
+    return productIds;
+  }
+}
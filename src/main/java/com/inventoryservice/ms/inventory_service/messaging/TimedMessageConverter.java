@@ -0,0 +1,39 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import java.lang.reflect.Type;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times {@link #fromMessage} of the wrapped converter: the deserialize stage of
+ * a delivery, which runs in the listener container before the listener method.
+ */
+public class TimedMessageConverter implements MessageConverter {
+
+  private final MessageConverter delegate;
+  private final Timer timer;
+
+  public TimedMessageConverter(MessageConverter delegate, Timer timer) {
+    this.delegate = delegate;
+    this.timer = timer;
+  }
+
+  @Override
+  public Message toMessage(Object object, MessageProperties messageProperties) {
+    return delegate.toMessage(object, messageProperties);
+  }
+
+  @Override
+  public Message toMessage(Object object, MessageProperties messageProperties, Type genericType) {
+    return delegate.toMessage(object, messageProperties, genericType);
+  }
+
+  @Override
+  public Object fromMessage(Message message) {
+    return timer.record(() -> delegate.fromMessage(message));
+  }
+}
@@ -0,0 +1,16 @@
+package com.inventoryservice.ms.inventory_service.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inventoryservice.ms.inventory_service.entities.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  // SKIP LOCKED lets several relay instances drain the table without waiting on each other's rows.
+  @Query(value = "SELECT * FROM tb_outbox_events ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+}
@@ -0,0 +1,24 @@
+package com.inventoryservice.ms.inventory_service.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.inventoryservice.ms.inventory_service.entities.ProcessedMessage;
+
+public interface ProcessedMessageRepository extends JpaRepository<ProcessedMessage, String> {
+
+  // Read-write so the duplicate check never lands on a replica that has not seen the outcome yet.
+  @Override
+  @Transactional
+  Optional<ProcessedMessage> findById(String messageId);
+
+  @Modifying
+  @Query("DELETE FROM ProcessedMessage p WHERE p.processedAt < :cutoff")
+  int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,89 @@
+package com.inventoryservice.ms.inventory_service.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductRequestDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.StockAdjustmentDTO;
+
+@Repository
+public class ProductBatchRepository {
+  private static final String INSERT_PRODUCT = "INSERT INTO tb_products "
+      + "(name, description, available_quantity, price, created_at, version) VALUES (?, ?, ?, ?, ?, 0)";
+
+  // Absolute adjustments bind (quantity, 0) and deltas bind (NULL, delta), so both share one batched statement.
+  private static final String ADJUST_QUANTITY = "UPDATE tb_products "
+      + "SET available_quantity = COALESCE(?, available_quantity) + ?, version = version + 1 "
+      + "WHERE id = ? AND COALESCE(?, available_quantity) + ? >= 0";
+  private static final int ADJUSTMENT_BATCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ProductBatchRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Transactional
+  public List<Long> insertAll(List<ProductRequestDTO> products) {
+    Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_PRODUCT, new String[] { "id" }),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            ProductRequestDTO product = products.get(i);
+            ps.setString(1, product.name());
+            ps.setString(2, product.description());
+            ps.setInt(3, product.availableQuantity());
+            ps.setDouble(4, product.price());
+            ps.setTimestamp(5, createdAt);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return products.size();
+          }
+        }, keyHolder);
+    // One key per row; the column label's case differs between databases, so it is read by position.
+    return keyHolder.getKeyList().stream()
+        .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+        .toList();
+  }
+
+  public int[] adjustQuantities(List<StockAdjustmentDTO> adjustments) {
+    int[][] chunks = jdbcTemplate.batchUpdate(ADJUST_QUANTITY, adjustments, ADJUSTMENT_BATCH_SIZE,
+        (ps, adjustment) -> {
+          int delta = adjustment.isAbsolute() ? 0 : adjustment.delta();
+          if (adjustment.isAbsolute()) {
+            ps.setInt(1, adjustment.availableQuantity());
+            ps.setInt(4, adjustment.availableQuantity());
+          } else {
+            ps.setNull(1, Types.INTEGER);
+            ps.setNull(4, Types.INTEGER);
+          }
+          ps.setInt(2, delta);
+          ps.setLong(3, adjustment.productId());
+          ps.setInt(5, delta);
+        });
+
+    int[] updated = new int[adjustments.size()];
+    int index = 0;
+    for (int[] chunk : chunks) {
+      for (int count : chunk) {
+        updated[index++] = count;
+      }
+    }
+    return updated;
+  }
+}
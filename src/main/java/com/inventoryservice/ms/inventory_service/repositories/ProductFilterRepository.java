@@ -0,0 +1,12 @@
+package com.inventoryservice.ms.inventory_service.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductFilterDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductSummaryDTO;
+
+public interface ProductFilterRepository {
+
+  Slice<ProductSummaryDTO> findSummaries(ProductFilterDTO filter, Pageable pageable);
+}
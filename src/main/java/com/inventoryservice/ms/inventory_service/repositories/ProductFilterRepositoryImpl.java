@@ -0,0 +1,101 @@
+package com.inventoryservice.ms.inventory_service.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductFilterDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductSummaryDTO;
+import com.inventoryservice.ms.inventory_service.exceptions.InvalidProductFilterException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Filtered listing as a constructor-expression query: only the summary columns
+ * are selected, no entities enter the persistence context, and one extra row is
+ * fetched to tell whether a next page exists instead of running a COUNT(*).
+ */
+public class ProductFilterRepositoryImpl implements ProductFilterRepository {
+  private static final Set<String> SORTABLE = Set.of("id", "name", "price", "availableQuantity", "createdAt");
+
+  private final EntityManager entityManager;
+
+  public ProductFilterRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public Slice<ProductSummaryDTO> findSummaries(ProductFilterDTO filter, Pageable pageable) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<ProductSummaryDTO> query = cb.createQuery(ProductSummaryDTO.class);
+    Root<Product> product = query.from(Product.class);
+    query.select(cb.construct(ProductSummaryDTO.class,
+        product.get("id"),
+        product.get("name"),
+        product.get("price"),
+        product.get("availableQuantity"),
+        product.get("createdAt")))
+        .where(predicates(cb, product, filter))
+        .orderBy(orders(cb, product, pageable.getSort()));
+
+    List<ProductSummaryDTO> rows = entityManager.createQuery(query)
+        .setFirstResult((int) pageable.getOffset())
+        .setMaxResults(pageable.getPageSize() + 1)
+        .getResultList();
+    boolean hasNext = rows.size() > pageable.getPageSize();
+    return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+  }
+
+  private static Predicate[] predicates(CriteriaBuilder cb, Root<Product> product, ProductFilterDTO filter) {
+    List<Predicate> predicates = new ArrayList<>();
+    if (filter.minPrice() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(product.<Double>get("price"), filter.minPrice()));
+    }
+    if (filter.maxPrice() != null) {
+      predicates.add(cb.lessThanOrEqualTo(product.<Double>get("price"), filter.maxPrice()));
+    }
+    if (filter.minQuantity() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(product.<Integer>get("availableQuantity"), filter.minQuantity()));
+    }
+    if (filter.maxQuantity() != null) {
+      predicates.add(cb.lessThanOrEqualTo(product.<Integer>get("availableQuantity"), filter.maxQuantity()));
+    }
+    if (filter.createdFrom() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(product.<LocalDateTime>get("createdAt"), filter.createdFrom()));
+    }
+    if (filter.createdTo() != null) {
+      predicates.add(cb.lessThanOrEqualTo(product.<LocalDateTime>get("createdAt"), filter.createdTo()));
+    }
+    return predicates.toArray(Predicate[]::new);
+  }
+
+  private static List<Order> orders(CriteriaBuilder cb, Root<Product> product, Sort sort) {
+    List<Order> orders = new ArrayList<>();
+    boolean byId = false;
+    for (Sort.Order order : sort) {
+      if (!SORTABLE.contains(order.getProperty())) {
+        throw new InvalidProductFilterException("Ordenação não suportada: " + order.getProperty());
+      }
+      orders.add(order.isAscending() ? cb.asc(product.get(order.getProperty()))
+          : cb.desc(product.get(order.getProperty())));
+      byId |= order.getProperty().equals("id");
+    }
+    if (!byId) {
+      // ID breaks ties, so rows with equal sort values never repeat or vanish between pages.
+      orders.add(cb.desc(product.get("id")));
+    }
+    return orders;
+  }
+}
@@ -1,9 +1,65 @@
 package com.inventoryservice.ms.inventory_service.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.inventoryservice.ms.inventory_service.entities.Product;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import jakarta.persistence.QueryHint;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductFilterRepository {
+
+  // Read-write on their own, so load-modify-save updates and product cache loads read the primary;
+  // inside a read-only service transaction they join that one and may be served by a replica.
+  @Override
+  @Transactional
+  Optional<Product> findById(Long id);
+
+  @Override
+  @Transactional
+  List<Product> findAllById(Iterable<Long> ids);
+
+  @Modifying
+  @Query("UPDATE Product p SET p.availableQuantity = p.availableQuantity - :quantity, "
+      + "p.version = p.version + 1 WHERE p.id = :id AND p.availableQuantity >= :quantity")
+  int decrementAvailableQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+  @Modifying
+  @Query("UPDATE Product p SET p.availableQuantity = p.availableQuantity + :quantity, "
+      + "p.version = p.version + 1 WHERE p.id = :id")
+  int incrementAvailableQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+  @Transactional
+  @Query("SELECT p.version FROM Product p WHERE p.id = :id")
+  Optional<Long> findVersionById(@Param("id") Long id);
+
+  @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+  List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+  @Query("SELECT p FROM Product p ORDER BY p.createdAt DESC, p.id DESC")
+  List<Product> findFirstPage(Limit limit);
+
+  @Query("SELECT p FROM Product p WHERE (p.createdAt, p.id) < (:createdAt, :id) "
+      + "ORDER BY p.createdAt DESC, p.id DESC")
+  List<Product> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT p FROM Product p ORDER BY p.id")
+  Stream<Product> streamAll();
 }
@@ -0,0 +1,29 @@
+package com.inventoryservice.ms.inventory_service.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inventoryservice.ms.inventory_service.entities.StockReservation;
+
+import jakarta.persistence.LockModeType;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+  // SKIP LOCKED keeps concurrent sweeps (and cancels holding row locks) from blocking each other.
+  @Query(value = "SELECT * FROM tb_stock_reservations WHERE expires_at <= :now "
+      + "ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<StockReservation> lockExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<StockReservation> findByReservationId(String reservationId);
+
+  @Modifying
+  @Query("DELETE FROM StockReservation r WHERE r.reservationId = :reservationId")
+  int deleteByReservationId(@Param("reservationId") String reservationId);
+}
@@ -0,0 +1,138 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory stock ledger for products configured as hot. Stock is claimed from
+ * {@code tb_products} in chunks and handed out to reservations with a CAS on a
+ * local counter, so only one in {@code chunk-size} units touches the row.
+ * Claimed stock is already deducted in the database: a crash loses at most the
+ * unsold part of one chunk per product, and never oversells.
+ */
+@Component
+public class HotStockLedger {
+  private final Map<Long, Allotment> allotments;
+  private final int chunkSize;
+  private final ProductRepository productRepository;
+  private final ProductCache productCache;
+  private final TransactionTemplate claimTransaction;
+
+  public HotStockLedger(
+      @Value("${inventory.hot-stock.product-ids:}") Set<Long> productIds,
+      @Value("${inventory.hot-stock.chunk-size:500}") int chunkSize,
+      ProductRepository productRepository,
+      ProductCache productCache,
+      PlatformTransactionManager transactionManager) {
+    this.allotments = productIds.stream().collect(Collectors.toUnmodifiableMap(Function.identity(), id -> new Allotment()));
+    this.chunkSize = Math.max(1, chunkSize);
+    this.productRepository = productRepository;
+    this.productCache = productCache;
+    // Claims commit on their own: rolling back an order must not undo stock the ledger already holds.
+    this.claimTransaction = new TransactionTemplate(transactionManager);
+    this.claimTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  public Set<Long> productIds() {
+    return allotments.keySet();
+  }
+
+  public boolean isHot(Long productId) {
+    return allotments.containsKey(productId);
+  }
+
+  public long available(Long productId) {
+    Allotment allotment = allotments.get(productId);
+    return allotment == null ? 0 : allotment.remaining.get();
+  }
+
+  public boolean tryReserve(Long productId, int quantity) {
+    Allotment allotment = allotments.get(productId);
+    while (true) {
+      if (allotment.tryTake(quantity)) {
+        return true;
+      }
+      allotment.refillLock.lock();
+      try {
+        if (allotment.tryTake(quantity)) {
+          return true;
+        }
+        long shortfall = quantity - allotment.remaining.get();
+        if (shortfall > 0) {
+          int claimed = claim(productId, (int) shortfall);
+          if (claimed == 0) {
+            return false;
+          }
+          allotment.remaining.addAndGet(claimed);
+        }
+      } finally {
+        allotment.refillLock.unlock();
+      }
+    }
+  }
+
+  public void release(Long productId, int quantity) {
+    allotments.get(productId).remaining.addAndGet(quantity);
+  }
+
+  @PreDestroy
+  public void returnAllotments() {
+    allotments.forEach((productId, allotment) -> {
+      long remaining = allotment.remaining.getAndSet(0);
+      if (remaining > 0) {
+        claimTransaction.executeWithoutResult(
+            status -> productRepository.incrementAvailableQuantity(productId, (int) remaining));
+        productCache.invalidateAll(List.of(productId));
+      }
+    });
+  }
+
+  private int claim(Long productId, int shortfall) {
+    // A full chunk when the row has it, otherwise just the shortfall, so the last units can still sell.
+    int chunk = Math.max(chunkSize, shortfall);
+    int claimed = claimTransaction.execute(status -> {
+      if (productRepository.decrementAvailableQuantity(productId, chunk) > 0) {
+        return chunk;
+      }
+      if (shortfall < chunk && productRepository.decrementAvailableQuantity(productId, shortfall) > 0) {
+        return shortfall;
+      }
+      return 0;
+    });
+    if (claimed > 0) {
+      productCache.invalidateAll(List.of(productId));
+    }
+    return claimed;
+  }
+
+  private static final class Allotment {
+    private final AtomicLong remaining = new AtomicLong();
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    private boolean tryTake(int quantity) {
+      long current;
+      do {
+        current = remaining.get();
+        if (current < quantity) {
+          return false;
+        }
+      } while (!remaining.compareAndSet(current, current - quantity));
+      return true;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OptimisticLockRetryExecutor {
+  private final int maxAttempts;
+  private final long initialBackoffMillis;
+  private final long maxBackoffMillis;
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder exhausted = new LongAdder();
+
+  public OptimisticLockRetryExecutor(
+      @Value("${inventory.retry.max-attempts:5}") int maxAttempts,
+      @Value("${inventory.retry.initial-backoff-ms:10}") long initialBackoffMillis,
+      @Value("${inventory.retry.max-backoff-ms:200}") long maxBackoffMillis) {
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.initialBackoffMillis = initialBackoffMillis;
+    this.maxBackoffMillis = maxBackoffMillis;
+  }
+
+  public <T> T execute(Supplier<T> action) {
+    for (int attempt = 1;; attempt++) {
+      try {
+        return action.get();
+      } catch (OptimisticLockingFailureException e) {
+        if (attempt >= maxAttempts) {
+          exhausted.increment();
+          throw e;
+        }
+        retries.increment();
+        backoff(attempt, e);
+      }
+    }
+  }
+
+  public void execute(Runnable action) {
+    execute(() -> {
+      action.run();
+      return null;
+    });
+  }
+
+  public long getRetryCount() {
+    return retries.sum();
+  }
+
+  public long getExhaustedCount() {
+    return exhausted.sum();
+  }
+
+  private void backoff(int attempt, OptimisticLockingFailureException cause) {
+    // Full jitter: sleep a random time up to the exponential ceiling so colliding writers spread out.
+    long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+    if (ceiling <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw cause;
+    }
+  }
+}
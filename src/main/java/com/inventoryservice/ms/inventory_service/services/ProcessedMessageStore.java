@@ -0,0 +1,93 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inventoryservice.ms.inventory_service.entities.ProcessedMessage;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.InventoryResponseDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.StockReservationDTO;
+import com.inventoryservice.ms.inventory_service.repositories.ProcessedMessageRepository;
+
+/**
+ * Remembers the outcome of every order message for {@code window}. Recent IDs
+ * are answered from a bounded in-memory cache; older ones, and IDs handled by
+ * another instance, from {@code tb_processed_messages}.
+ */
+@Component
+public class ProcessedMessageStore {
+  private final ProcessedMessageRepository processedMessageRepository;
+  private final Cache<String, InventoryResponseDTO> recent;
+  private final Duration window;
+
+  public ProcessedMessageStore(
+      ProcessedMessageRepository processedMessageRepository,
+      @Value("${inventory.idempotency.cache-size:100000}") long cacheSize,
+      @Value("${inventory.idempotency.window:24h}") Duration window) {
+    this.processedMessageRepository = processedMessageRepository;
+    this.window = window;
+    this.recent = Caffeine.newBuilder()
+        .maximumSize(cacheSize)
+        .expireAfterWrite(window)
+        .build();
+  }
+
+  public Optional<InventoryResponseDTO> find(String messageId) {
+    if (messageId == null) {
+      return Optional.empty();
+    }
+    InventoryResponseDTO response = recent.getIfPresent(messageId);
+    if (response == null) {
+      response = processedMessageRepository.findById(messageId)
+          .map(ProcessedMessageStore::toResponse)
+          .orElse(null);
+      if (response != null) {
+        recent.put(messageId, response);
+      }
+    }
+    return Optional.ofNullable(response);
+  }
+
+  public void record(String messageId, InventoryResponseDTO response) {
+    if (messageId == null) {
+      return;
+    }
+    // Flushed now so a concurrent duplicate fails here, inside the caller's transaction.
+    StockReservationDTO reservation = response.data() instanceof StockReservationDTO r ? r : null;
+    processedMessageRepository.saveAndFlush(new ProcessedMessage(messageId, response.status(), response.message(),
+        reservation == null ? null : reservation.reservationId(),
+        reservation == null ? null : reservation.expiresAt(), null));
+    InventoryResponseDTO stored = new InventoryResponseDTO(response.status(), response.message(), reservation);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          recent.put(messageId, stored);
+        }
+      });
+    } else {
+      recent.put(messageId, stored);
+    }
+  }
+
+  private static InventoryResponseDTO toResponse(ProcessedMessage processed) {
+    StockReservationDTO reservation = processed.getReservationId() == null ? null
+        : new StockReservationDTO(processed.getReservationId(), processed.getReservationExpiresAt());
+    return new InventoryResponseDTO(processed.getStatus(), processed.getMessage(), reservation);
+  }
+
+  @Transactional
+  @Scheduled(fixedDelayString = "${inventory.idempotency.cleanup-interval-ms:3600000}")
+  public void purgeExpired() {
+    processedMessageRepository.deleteProcessedBefore(LocalDateTime.now().minus(window));
+  }
+}
@@ -0,0 +1,155 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.messaging.ProductInvalidationPublisher;
+
+@Component
+public class ProductCache {
+  private static final int INVALIDATION_STRIPES = 1024;
+
+  private final Cache<Long, Product> cache;
+  // Eviction counts per stripe of IDs; a load only caches its row if no eviction hit the stripe meanwhile.
+  private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+  private final ProductInvalidationPublisher invalidationPublisher;
+
+  public ProductCache(
+      @Value("${inventory.cache.products.maximum-size:10000}") long maximumSize,
+      @Value("${inventory.cache.products.expire-after-write:5m}") Duration expireAfterWrite,
+      ProductInvalidationPublisher invalidationPublisher) {
+    this.invalidationPublisher = invalidationPublisher;
+    this.cache = maximumSize <= 0 ? null
+        : Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+  }
+
+  public Product get(Long id, Function<Long, Product> loader) {
+    if (cache == null) {
+      return loader.apply(id);
+    }
+    Product cached = cache.getIfPresent(id);
+    if (cached != null) {
+      return cached;
+    }
+    // Loaded outside Caffeine's compute lock: a JDBC call made while holding it would pin a virtual thread's carrier.
+    long stamp = invalidations.get(stripe(id));
+    Product loaded = loader.apply(id);
+    if (loaded != null) {
+      putIfNotInvalidated(id, loaded, stamp);
+    }
+    return loaded;
+  }
+
+  public Product getIfPresent(Long id) {
+    return cache == null ? null : cache.getIfPresent(id);
+  }
+
+  public Map<Long, Product> getAll(Set<Long> ids, Function<Set<Long>, Map<Long, Product>> loader) {
+    if (cache == null) {
+      return loader.apply(ids);
+    }
+    Map<Long, Product> found = new HashMap<>(cache.getAllPresent(ids));
+    if (found.size() == ids.size()) {
+      return found;
+    }
+    Map<Long, Long> stamps = new HashMap<>();
+    for (Long id : ids) {
+      if (!found.containsKey(id)) {
+        stamps.put(id, invalidations.get(stripe(id)));
+      }
+    }
+    loader.apply(Set.copyOf(stamps.keySet())).forEach((id, product) -> {
+      Long stamp = stamps.get(id);
+      if (stamp != null) {
+        putIfNotInvalidated(id, product, stamp);
+        found.put(id, product);
+      }
+    });
+    return found;
+  }
+
+  public void invalidate(Long id) {
+    invalidateAll(List.of(id));
+  }
+
+  public void invalidateAll(Collection<Long> ids) {
+    invalidateAll(ids, false);
+  }
+
+  /** Like {@link #invalidateAll(Collection)}, and other instances also reindex the products for search. */
+  public void invalidateAndReindex(Collection<Long> ids) {
+    invalidateAll(ids, true);
+  }
+
+  private void invalidateAll(Collection<Long> ids, boolean reindex) {
+    evictLocal(ids);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      // Evict again once the transaction ends, so a reader that reloaded the row before commit cannot leave a stale entry.
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          evictLocal(ids);
+          publish(ids, reindex);
+        }
+      });
+    } else {
+      publish(ids, reindex);
+    }
+  }
+
+  private void publish(Collection<Long> ids, boolean reindex) {
+    if (reindex) {
+      invalidationPublisher.enqueueReindex(ids);
+    } else {
+      invalidationPublisher.enqueue(ids);
+    }
+  }
+
+  public void evictLocal(Collection<Long> ids) {
+    if (cache != null) {
+      for (Long id : ids) {
+        invalidations.incrementAndGet(stripe(id));
+      }
+      cache.invalidateAll(ids);
+    }
+  }
+
+  private void putIfNotInvalidated(Long id, Product product, long stamp) {
+    // A row read before an eviction must not outlive it. Re-checking after the put covers an eviction
+    // that lands between the check and the put.
+    int stripe = stripe(id);
+    if (invalidations.get(stripe) == stamp) {
+      cache.put(id, product);
+      if (invalidations.get(stripe) != stamp) {
+        cache.invalidate(id);
+      }
+    }
+  }
+
+  private static int stripe(Long id) {
+    return Long.hashCode(id) & (INVALIDATION_STRIPES - 1);
+  }
+
+  public CacheStats stats() {
+    return cache == null ? CacheStats.empty() : cache.stats();
+  }
+}
@@ -0,0 +1,61 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class ProductExportService {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final ProductRepository productRepository;
+  private final EntityManager entityManager;
+  private final ObjectWriter ndjsonWriter;
+
+  public ProductExportService(ProductRepository productRepository, EntityManager entityManager,
+      ObjectMapper objectMapper) {
+    this.productRepository = productRepository;
+    this.entityManager = entityManager;
+    this.ndjsonWriter = objectMapper.writerFor(Product.class)
+        .withRootValueSeparator("\n")
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
+
+  @Transactional(readOnly = true)
+  public long exportCatalog(OutputStream out) throws IOException {
+    long exported = 0;
+    BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+    try (Stream<Product> products = productRepository.streamAll();
+        SequenceWriter sequence = ndjsonWriter.writeValues(buffered)) {
+      Iterator<Product> iterator = products.iterator();
+      while (iterator.hasNext()) {
+        Product product = iterator.next();
+        sequence.write(product);
+        // Detach each row so the persistence context stays empty however large the catalog is.
+        entityManager.detach(product);
+        exported++;
+      }
+    }
+    if (exported > 0) {
+      buffered.write('\n');
+    }
+    buffered.flush();
+    return exported;
+  }
+}
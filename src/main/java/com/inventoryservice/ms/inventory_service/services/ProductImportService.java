@@ -0,0 +1,146 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductRequestDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductImportErrorDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductImportResultDTO;
+import com.inventoryservice.ms.inventory_service.exceptions.AvaliableQuantityProductException;
+import com.inventoryservice.ms.inventory_service.repositories.ProductBatchRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Service
+public class ProductImportService {
+  public static final String TEXT_CSV_VALUE = "text/csv";
+  private static final int MAX_REPORTED_ERRORS = 1000;
+
+  private final ProductBatchRepository productBatchRepository;
+  private final ProductCache productCache;
+  private final ProductSearchIndex productSearchIndex;
+  private final Validator validator;
+  private final ObjectReader jsonReader;
+  private final ObjectReader csvReader;
+  private final int batchSize;
+
+  public ProductImportService(ProductBatchRepository productBatchRepository, ProductCache productCache,
+      ProductSearchIndex productSearchIndex, Validator validator, ObjectMapper objectMapper,
+      @Value("${inventory.import.batch-size:1000}") int batchSize) {
+    this.productBatchRepository = productBatchRepository;
+    this.productCache = productCache;
+    this.productSearchIndex = productSearchIndex;
+    this.validator = validator;
+    this.jsonReader = objectMapper.readerFor(ProductRequestDTO.class);
+    this.csvReader = new CsvMapper().readerFor(ProductRequestDTO.class)
+        .with(CsvSchema.emptySchema().withHeader());
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  public ProductImportResultDTO importProducts(InputStream body, MediaType contentType) throws IOException {
+    ObjectReader reader = MediaType.valueOf(TEXT_CSV_VALUE).includes(contentType) ? csvReader : jsonReader;
+    ImportRun run = new ImportRun();
+
+    try (MappingIterator<ProductRequestDTO> rows = reader.readValues(body)) {
+      while (true) {
+        long row = run.received + 1;
+        ProductRequestDTO product;
+        try {
+          if (!rows.hasNextValue()) {
+            break;
+          }
+          product = rows.nextValue();
+        } catch (JsonParseException e) {
+          // Malformed input cannot be resynchronized: stop, keeping everything read so far.
+          run.received++;
+          run.fail(row, "Conteúdo malformado: " + e.getOriginalMessage());
+          break;
+        } catch (JsonMappingException e) {
+          run.received++;
+          run.fail(row, "Valor inválido: " + e.getOriginalMessage());
+          continue;
+        }
+
+        run.received++;
+        String violation = validate(product);
+        if (violation != null) {
+          run.fail(row, violation);
+          continue;
+        }
+        run.batch.add(product);
+        run.batchRows.add(row);
+        if (run.batch.size() >= batchSize) {
+          flush(run);
+        }
+      }
+    }
+    flush(run);
+
+    return new ProductImportResultDTO(run.received, run.imported, run.failed, run.errors);
+  }
+
+  private String validate(ProductRequestDTO product) {
+    Set<ConstraintViolation<ProductRequestDTO>> violations = validator.validate(product);
+    if (!violations.isEmpty()) {
+      return violations.stream()
+          .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+          .sorted()
+          .collect(Collectors.joining("; "));
+    }
+    if (product.availableQuantity() <= 0) {
+      return new AvaliableQuantityProductException().getMessage();
+    }
+    return null;
+  }
+
+  private void flush(ImportRun run) {
+    if (run.batch.isEmpty()) {
+      return;
+    }
+    try {
+      List<Long> insertedIds = productBatchRepository.insertAll(run.batch);
+      run.imported += run.batch.size();
+      // The rows bypass ProductService, so this instance and the others pick them up through the stale set.
+      productSearchIndex.markStale(insertedIds);
+      productCache.invalidateAndReindex(insertedIds);
+    } catch (DataAccessException e) {
+      String message = "Falha ao gravar o lote: " + e.getMostSpecificCause().getMessage();
+      run.batchRows.forEach(row -> run.fail(row, message));
+    }
+    run.batch.clear();
+    run.batchRows.clear();
+  }
+
+  private static final class ImportRun {
+    private final List<ProductRequestDTO> batch = new ArrayList<>();
+    private final List<Long> batchRows = new ArrayList<>();
+    private final List<ProductImportErrorDTO> errors = new ArrayList<>();
+    private long received;
+    private long imported;
+    private long failed;
+
+    private void fail(long row, String message) {
+      failed++;
+      if (errors.size() < MAX_REPORTED_ERRORS) {
+        errors.add(new ProductImportErrorDTO(row, message));
+      }
+    }
+  }
+}
@@ -0,0 +1,417 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * In-memory inverted index over product name and description. Terms are
+ * lower-cased with accents folded ("Térmica" and "termica" match) and pt-BR
+ * stopwords dropped; each term maps to a sorted array of product IDs, so a
+ * query is an intersection of a few arrays. Every query term must match, and
+ * the last one also matches as a prefix while the user is still typing it.
+ * Products matching every term in their name rank first, then by ID.
+ * <p>
+ * Built once at startup. Local writes go through {@link ProductService}; rows
+ * written elsewhere (other instances, bulk import) are marked stale by ID and
+ * reloaded by {@link #refreshStale()}. New rows are tracked by ID too, not by
+ * scanning past the highest one seen: IDENTITY values can commit out of order.
+ */
+@Component
+public class ProductSearchIndex {
+  private static final Logger log = LoggerFactory.getLogger(ProductSearchIndex.class);
+  static final int MIN_PREFIX_LENGTH = 2;
+  private static final int REFRESH_CHUNK_SIZE = 1000;
+  private static final int SORTED_UNION_LIMIT = 4096;
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final Set<String> STOPWORDS = Set.of(
+      "a", "ao", "aos", "as", "com", "da", "das", "de", "do", "dos", "e", "em",
+      "na", "nas", "no", "nos", "o", "os", "para", "pela", "pelo", "por", "um", "uma");
+
+  private final ProductRepository productRepository;
+  private final EntityManager entityManager;
+  private final TransactionTemplate readTransaction;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+  private final Map<Long, Document> documents = new HashMap<>();
+  private final Set<Long> stale = ConcurrentHashMap.newKeySet();
+  private long highestId;
+
+  public ProductSearchIndex(ProductRepository productRepository, EntityManager entityManager,
+      PlatformTransactionManager transactionManager) {
+    this.productRepository = productRepository;
+    this.entityManager = entityManager;
+    // Not read-only, so the index reads the primary: a lagging replica would index outdated rows.
+    this.readTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    long started = System.nanoTime();
+    indexAll(productRepository::streamAll);
+    log.info("Search index built: {} products, {} terms in {} ms",
+        size(), termCount(), (System.nanoTime() - started) / 1_000_000);
+  }
+
+  public List<Long> search(String query, int limit) {
+    List<String> terms = terms(query);
+    if (terms.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    // A query that does not end in a separator is still being typed: its last term is a prefix.
+    String prefix = null;
+    char last = query.charAt(query.length() - 1);
+    if (Character.isLetterOrDigit(last) && terms.get(terms.size() - 1).length() >= MIN_PREFIX_LENGTH) {
+      prefix = terms.remove(terms.size() - 1);
+    }
+
+    lock.readLock().lock();
+    try {
+      long[] candidates = exactMatches(terms);
+      if (candidates != null && candidates.length == 0) {
+        return List.of();
+      }
+      if (prefix != null) {
+        candidates = candidates == null ? prefixMatches(prefix) : filterByPrefix(candidates, prefix);
+      }
+      return rank(candidates, terms, prefix, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void index(Product product) {
+    Document document = Document.of(product);
+    lock.writeLock().lock();
+    try {
+      Document previous = documents.put(product.getId(), document);
+      if (previous != null) {
+        previous.forEachTerm(term -> removePosting(term, product.getId()));
+      }
+      document.forEachTerm(term -> postings.computeIfAbsent(term, key -> new PostingList()).add(product.getId()));
+      highestId = Math.max(highestId, product.getId());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long productId) {
+    lock.writeLock().lock();
+    try {
+      Document previous = documents.remove(productId);
+      if (previous != null) {
+        previous.forEachTerm(term -> removePosting(term, productId));
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Products changed elsewhere; they are reloaded on the next {@link #refreshStale()}. */
+  public void markStale(Collection<Long> productIds) {
+    stale.addAll(productIds);
+  }
+
+  @Scheduled(fixedDelayString = "${inventory.search.refresh-interval-ms:1000}")
+  public void refreshStale() {
+    while (!stale.isEmpty()) {
+      Set<Long> productIds = new HashSet<>();
+      for (Iterator<Long> it = stale.iterator(); it.hasNext() && productIds.size() < REFRESH_CHUNK_SIZE;) {
+        productIds.add(it.next());
+        it.remove();
+      }
+      List<Product> found = readTransaction.execute(status -> productRepository.findAllById(productIds));
+      found.forEach(product -> {
+        index(product);
+        productIds.remove(product.getId());
+      });
+      productIds.forEach(this::remove);
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private int termCount() {
+    lock.readLock().lock();
+    try {
+      return postings.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void indexAll(Supplier<Stream<Product>> rows) {
+    readTransaction.executeWithoutResult(status -> {
+      try (Stream<Product> products = rows.get()) {
+        products.forEach(product -> {
+          index(product);
+          // Detached as it goes, like the export, so the persistence context stays empty.
+          entityManager.detach(product);
+        });
+      }
+    });
+  }
+
+  private long[] exactMatches(List<String> terms) {
+    long[] result = null;
+    // Rarest term first keeps every intersection no larger than the smallest list.
+    List<PostingList> lists = new ArrayList<>(terms.size());
+    for (String term : terms) {
+      PostingList list = postings.get(term);
+      if (list == null) {
+        return new long[0];
+      }
+      lists.add(list);
+    }
+    lists.sort((a, b) -> Integer.compare(a.size, b.size));
+    for (PostingList list : lists) {
+      result = result == null ? list.toArray() : list.intersect(result);
+      if (result.length == 0) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  private long[] prefixMatches(String prefix) {
+    Collection<PostingList> lists = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+    int total = 0;
+    for (PostingList list : lists) {
+      total += list.size;
+    }
+    if (total > SORTED_UNION_LIMIT) {
+      // Large unions are set in a bitmap over the ID range and read back in order, instead of sorted.
+      long[] bitmap = new long[(int) (highestId >>> 6) + 1];
+      for (PostingList list : lists) {
+        for (int i = 0; i < list.size; i++) {
+          bitmap[(int) (list.ids[i] >>> 6)] |= 1L << list.ids[i];
+        }
+      }
+      long[] ids = new long[total];
+      int size = 0;
+      for (int word = 0; word < bitmap.length; word++) {
+        for (long bits = bitmap[word]; bits != 0; bits &= bits - 1) {
+          ids[size++] = ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+      }
+      return Arrays.copyOf(ids, size);
+    }
+    long[] ids = new long[total];
+    int size = 0;
+    for (PostingList list : lists) {
+      System.arraycopy(list.ids, 0, ids, size, list.size);
+      size += list.size;
+    }
+    Arrays.sort(ids);
+    return distinct(ids);
+  }
+
+  private long[] filterByPrefix(long[] candidates, String prefix) {
+    long[] matches = new long[candidates.length];
+    int size = 0;
+    for (long id : candidates) {
+      if (documents.get(id).hasPrefix(prefix, false)) {
+        matches[size++] = id;
+      }
+    }
+    return Arrays.copyOf(matches, size);
+  }
+
+  private List<Long> rank(long[] candidates, List<String> terms, String prefix, int limit) {
+    List<Long> byName = new ArrayList<>(Math.min(limit, candidates.length));
+    List<Long> others = new ArrayList<>(Math.min(limit, candidates.length));
+    for (long id : candidates) {
+      Document document = documents.get(id);
+      if (document.nameHasAll(terms) && (prefix == null || document.hasPrefix(prefix, true))) {
+        byName.add(id);
+        if (byName.size() == limit) {
+          break;
+        }
+      } else if (others.size() < limit) {
+        others.add(id);
+      }
+    }
+    for (Iterator<Long> it = others.iterator(); it.hasNext() && byName.size() < limit;) {
+      byName.add(it.next());
+    }
+    return byName;
+  }
+
+  private void removePosting(String term, long productId) {
+    PostingList list = postings.get(term);
+    if (list != null && list.remove(productId) && list.size == 0) {
+      postings.remove(term);
+    }
+  }
+
+  private static long[] distinct(long[] sorted) {
+    int size = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[i - 1]) {
+        sorted[size++] = sorted[i];
+      }
+    }
+    return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+  }
+
+  /** Search terms of {@code text}, in order and without repeats. */
+  static List<String> terms(String text) {
+    if (text == null || text.isBlank()) {
+      return new ArrayList<>();
+    }
+    String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+        .toLowerCase(Locale.ROOT);
+    Set<String> terms = new LinkedHashSet<>();
+    for (String term : SEPARATORS.split(folded)) {
+      if (!term.isEmpty() && !STOPWORDS.contains(term)) {
+        terms.add(term);
+      }
+    }
+    return new ArrayList<>(terms);
+  }
+
+  /** Terms of one product: the name's first, then those only in the description. */
+  private record Document(String[] terms, int nameTerms) {
+
+    static Document of(Product product) {
+      Set<String> terms = new LinkedHashSet<>(ProductSearchIndex.terms(product.getName()));
+      int nameTerms = terms.size();
+      terms.addAll(ProductSearchIndex.terms(product.getDescription()));
+      return new Document(terms.toArray(String[]::new), nameTerms);
+    }
+
+    void forEachTerm(Consumer<String> action) {
+      for (String term : terms) {
+        action.accept(term);
+      }
+    }
+
+    boolean nameHasAll(List<String> queryTerms) {
+      for (String queryTerm : queryTerms) {
+        if (!contains(queryTerm, nameTerms)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean hasPrefix(String prefix, boolean nameOnly) {
+      int end = nameOnly ? nameTerms : terms.length;
+      for (int i = 0; i < end; i++) {
+        if (terms[i].startsWith(prefix)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean contains(String term, int end) {
+      for (int i = 0; i < end; i++) {
+        if (terms[i].equals(term)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /** Sorted, duplicate-free product IDs for one term; 8 bytes per posting. */
+  private static final class PostingList {
+    private long[] ids = new long[2];
+    private int size;
+
+    void add(long id) {
+      int position = Arrays.binarySearch(ids, 0, size, id);
+      if (position >= 0) {
+        return;
+      }
+      position = -position - 1;
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+      }
+      System.arraycopy(ids, position, ids, position + 1, size - position);
+      ids[position] = id;
+      size++;
+    }
+
+    boolean remove(long id) {
+      int position = Arrays.binarySearch(ids, 0, size, id);
+      if (position < 0) {
+        return false;
+      }
+      System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+      size--;
+      return true;
+    }
+
+    long[] toArray() {
+      return Arrays.copyOf(ids, size);
+    }
+
+    long[] intersect(long[] sorted) {
+      long[] result = new long[Math.min(size, sorted.length)];
+      int count = 0;
+      if ((long) sorted.length * 16 < size) {
+        // Few candidates against a long list: probe it instead of walking it.
+        for (long id : sorted) {
+          if (Arrays.binarySearch(ids, 0, size, id) >= 0) {
+            result[count++] = id;
+          }
+        }
+      } else {
+        for (int i = 0, j = 0; i < sorted.length && j < size;) {
+          if (sorted[i] < ids[j]) {
+            i++;
+          } else if (sorted[i] > ids[j]) {
+            j++;
+          } else {
+            result[count++] = sorted[i];
+            i++;
+            j++;
+          }
+        }
+      }
+      return Arrays.copyOf(result, count);
+    }
+  }
+}
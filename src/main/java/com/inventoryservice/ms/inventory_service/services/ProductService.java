@@ -1,65 +1,333 @@
 package com.inventoryservice.ms.inventory_service.services;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.inventoryservice.ms.inventory_service.entities.Product;
 import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductFilterDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductRequestDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductUpdateRequestDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.StockAdjustmentDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.response.InventoryResponseDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductCursorPageDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductSummaryDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductSummarySliceDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.StockAdjustmentResultDTO;
 import com.inventoryservice.ms.inventory_service.entities.enums.InventoryStatus;
+import com.inventoryservice.ms.inventory_service.entities.enums.OrderItemStatus;
+import com.inventoryservice.ms.inventory_service.entities.enums.StockAdjustmentStatus;
 import com.inventoryservice.ms.inventory_service.exceptions.AvaliableQuantityProductException;
+import com.inventoryservice.ms.inventory_service.exceptions.HotProductQuantityException;
+import com.inventoryservice.ms.inventory_service.exceptions.InsufficientStockException;
+import com.inventoryservice.ms.inventory_service.exceptions.InvalidCursorException;
+import com.inventoryservice.ms.inventory_service.exceptions.InvalidOrderQuantityException;
 import com.inventoryservice.ms.inventory_service.exceptions.ProductNotFoundException;
+import com.inventoryservice.ms.inventory_service.repositories.ProductBatchRepository;
 import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
 
 @Service
 public class ProductService {
   private final ProductRepository productRepository;
+  private final ProductBatchRepository productBatchRepository;
+  private final OptimisticLockRetryExecutor retryExecutor;
+  private final ProductCache productCache;
+  private final HotStockLedger hotStockLedger;
+  private final ProductSearchIndex productSearchIndex;
   private static final String PRODUCT_NOT_FOUND_MESSAGE = "Produto com ID %d não encontrado";
   private static final String INSUFFICIENT_STOCK_MESSAGE = "Estoque insuficiente para o produto ID %d. Quantidade solicitada: %d, Quantidade disponível: %d";
+  private static final String INVALID_QUANTITY_MESSAGE = "A quantidade solicitada para o produto ID %d deve ser maior que zero.";
   private static final String VALIDATION_SUCCESS_MESSAGE = "Produto ID %d validado com sucesso";
   private static final String GENERIC_ERROR_MESSAGE = "Erro ao validar o pedido: %s. Tente novamente mais tarde.";
+  private static final int MAX_SCROLL_SIZE = 1000;
+  private static final int MAX_SEARCH_RESULTS = 100;
 
-  public ProductService(ProductRepository productRepository) {
+  public ProductService(ProductRepository productRepository, ProductBatchRepository productBatchRepository,
+      OptimisticLockRetryExecutor retryExecutor, ProductCache productCache, HotStockLedger hotStockLedger,
+      ProductSearchIndex productSearchIndex) {
     this.productRepository = productRepository;
+    this.productBatchRepository = productBatchRepository;
+    this.retryExecutor = retryExecutor;
+    this.productCache = productCache;
+    this.hotStockLedger = hotStockLedger;
+    this.productSearchIndex = productSearchIndex;
   }
 
+  @Transactional(readOnly = true)
   public Page<Product> listAll(Pageable pageable) {
     return this.productRepository.findAll(pageable);
   }
 
+  @Transactional(readOnly = true)
+  public ProductCursorPageDTO scroll(String cursor, int size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+    Limit limit = Limit.of(pageSize + 1);
+
+    List<Product> products;
+    if (cursor == null || cursor.isBlank()) {
+      products = productRepository.findFirstPage(limit);
+    } else {
+      ScrollPosition position = decodeCursor(cursor);
+      products = productRepository.findPageAfter(position.createdAt(), position.id(), limit);
+    }
+
+    if (products.size() <= pageSize) {
+      return new ProductCursorPageDTO(products, null);
+    }
+    List<Product> page = products.subList(0, pageSize);
+    return new ProductCursorPageDTO(page, encodeCursor(page.get(pageSize - 1)));
+  }
+
+  @Transactional(readOnly = true)
+  public ProductSummarySliceDTO filter(ProductFilterDTO filter, Pageable pageable) {
+    Slice<ProductSummaryDTO> slice = productRepository.findSummaries(filter, pageable);
+    return new ProductSummarySliceDTO(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+  }
+
+  public List<Product> search(String query, int limit) {
+    List<Long> ids = productSearchIndex.search(query, Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS));
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Product> products = findAllByIds(new HashSet<>(ids));
+    List<Product> results = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      // A product deleted on another instance stays in the index until the next refresh.
+      Product product = products.get(id);
+      if (product != null) {
+        results.add(product);
+      }
+    }
+    return results;
+  }
+
+  // Cache-backed reads run outside read-only transactions, so a miss loads from the primary: a lagging
+  // replica could otherwise refill an entry a write just evicted with the old row, for the whole TTL.
   public Product findById(Long id) {
-    return productRepository.findById(id)
+    Product product = cachedProduct(id);
+    if (product == null) {
+      throw new ProductNotFoundException(id);
+    }
+    return product;
+  }
+
+  /**
+   * Version of the product {@link #findById} would return, read from the cache
+   * when present and otherwise with a single-column query, for conditional GETs.
+   */
+  public Long findVersion(Long id) {
+    Product cached = productCache.getIfPresent(id);
+    if (cached != null) {
+      return cached.getVersion();
+    }
+    return productRepository.findVersionById(id)
         .orElseThrow(() -> new ProductNotFoundException(id));
   }
 
+  public Map<Long, Product> findAllByIds(Set<Long> ids) {
+    return productCache.getAll(ids, missing -> indexById(productRepository.findAllById(missing)));
+  }
+
   public InventoryResponseDTO validateOrderItem(CreateOrderItemDTO item) {
     try {
-      Product product = findById(item.productId());
-
-      if (isInsufficientStock(item.quantity(), product.getAvailableQuantity())) {
-        return createErrorResponse(
-            String.format(INSUFFICIENT_STOCK_MESSAGE,
-                item.productId(),
-                item.quantity(),
-                product.getAvailableQuantity()));
+      return validateOrderItem(item, cachedProduct(item.productId()));
+    } catch (Exception e) {
+      return createErrorResponse(
+          String.format(GENERIC_ERROR_MESSAGE, e.getMessage()));
+    }
+  }
+
+  public List<InventoryResponseDTO> validateOrderItems(List<CreateOrderItemDTO> items) {
+    try {
+      return validateOrderItems(items, findAllByIds(productIds(items)));
+    } catch (Exception e) {
+      return genericErrors(items, e);
+    }
+  }
+
+  /**
+   * Outcome-only counterpart of {@link #validateOrderItems(List)}: the first
+   * failing status, or {@code AVAILABLE}. Nothing is formatted or allocated per
+   * item, so callers build messages (via {@code validateOrderItems}) only for
+   * orders that are actually rejected.
+   */
+  public OrderItemStatus checkOrderItems(List<CreateOrderItemDTO> items) {
+    try {
+      return checkOrderItems(items, findAllByIds(productIds(items)));
+    } catch (Exception e) {
+      return OrderItemStatus.INVALID;
+    }
+  }
+
+  public OrderItemStatus checkOrderItems(List<CreateOrderItemDTO> items, Map<Long, Product> products) {
+    for (CreateOrderItemDTO item : items) {
+      OrderItemStatus status = checkOrderItem(item, products.get(item.productId()));
+      if (status != OrderItemStatus.AVAILABLE) {
+        return status;
+      }
+    }
+    return OrderItemStatus.AVAILABLE;
+  }
+
+  public OrderItemStatus checkOrderItem(CreateOrderItemDTO item, Product product) {
+    if (product == null) {
+      return OrderItemStatus.PRODUCT_NOT_FOUND;
+    }
+    if (item.quantity() == null || item.quantity() <= 0) {
+      return OrderItemStatus.INVALID;
+    }
+    return isInsufficientStock(item.quantity(), availableQuantity(product))
+        ? OrderItemStatus.INSUFFICIENT_STOCK
+        : OrderItemStatus.AVAILABLE;
+  }
+
+  public List<InventoryResponseDTO> validateOrderItems(List<CreateOrderItemDTO> items, Map<Long, Product> products) {
+    List<InventoryResponseDTO> responses = new ArrayList<>(items.size());
+    try {
+      for (CreateOrderItemDTO item : items) {
+        responses.add(validateOrderItem(item, products.get(item.productId())));
       }
+      return responses;
+    } catch (Exception e) {
+      return genericErrors(items, e);
+    }
+  }
 
-      return createSuccessResponse(
-          String.format(VALIDATION_SUCCESS_MESSAGE, item.productId()),
-          product);
+  private List<InventoryResponseDTO> genericErrors(List<CreateOrderItemDTO> items, Exception e) {
+    InventoryResponseDTO error = createErrorResponse(
+        String.format(GENERIC_ERROR_MESSAGE, e.getMessage()));
+    return items.stream().map(item -> error).toList();
+  }
 
-    } catch (ProductNotFoundException e) {
+  /**
+   * Takes the order's units of hot products from the ledger before the order
+   * transaction opens, so a chunk claim, which commits on its own connection,
+   * never waits for a second pooled connection while the order holds one. The
+   * result goes to {@link #reserveOrderItems(List, Map)}, and back through
+   * {@link #releaseHotStock} if the order does not commit.
+   */
+  public Map<Long, Integer> holdHotStock(List<CreateOrderItemDTO> items) {
+    Map<Long, Integer> quantities = new TreeMap<>();
+    for (CreateOrderItemDTO item : items) {
+      if (item.productId() != null && hotStockLedger.isHot(item.productId())
+          && item.quantity() != null && item.quantity() > 0) {
+        quantities.merge(item.productId(), item.quantity(), Integer::sum);
+      }
+    }
+    Map<Long, Integer> held = new HashMap<>();
+    try {
+      quantities.forEach((productId, quantity) -> {
+        if (!hotStockLedger.tryReserve(productId, quantity)) {
+          throw new InsufficientStockException(productId, quantity, availableQuantity(loadProduct(productId)));
+        }
+        held.put(productId, quantity);
+      });
+    } catch (RuntimeException e) {
+      releaseHotStock(held);
+      throw e;
+    }
+    return held;
+  }
+
+  public void releaseHotStock(Map<Long, Integer> held) {
+    held.forEach(hotStockLedger::release);
+  }
+
+  @Transactional
+  public void reserveOrderItems(List<CreateOrderItemDTO> items) {
+    reserveOrderItems(items, Map.of());
+  }
+
+  @Transactional
+  public void reserveOrderItems(List<CreateOrderItemDTO> items, Map<Long, Integer> heldHotStock) {
+    // Ordered by product ID so concurrent orders always lock rows in the same order.
+    Map<Long, Integer> quantities = new TreeMap<>();
+    for (CreateOrderItemDTO item : items) {
+      if (item.quantity() == null || item.quantity() <= 0) {
+        throw new InvalidOrderQuantityException(item.productId());
+      }
+      quantities.merge(item.productId(), item.quantity(), Integer::sum);
+    }
+
+    // Hot products are served from the ledger without touching their row; a failure hands that stock back.
+    productCache.invalidateAll(quantities.keySet().stream().filter(id -> !hotStockLedger.isHot(id)).toList());
+    Map<Long, Integer> heldByLedger = new HashMap<>();
+    // Inside a transaction the ledger stock goes back on any rollback, including one after this method returns.
+    boolean releaseOnRollback = TransactionSynchronizationManager.isSynchronizationActive();
+    if (releaseOnRollback) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            heldByLedger.forEach(hotStockLedger::release);
+          }
+        }
+      });
+    }
+    try {
+      quantities.forEach((productId, quantity) -> {
+        if (heldHotStock.containsKey(productId)) {
+          // Held by the caller before the transaction; the caller also gives it back.
+          return;
+        }
+        if (hotStockLedger.isHot(productId)) {
+          // Not held beforehand: a chunk claim from here needs a second connection while this transaction holds one.
+          if (!hotStockLedger.tryReserve(productId, quantity)) {
+            throw new InsufficientStockException(productId, quantity, availableQuantity(loadProduct(productId)));
+          }
+          heldByLedger.put(productId, quantity);
+        } else if (productRepository.decrementAvailableQuantity(productId, quantity) == 0) {
+          Product product = loadProduct(productId);
+          throw new InsufficientStockException(productId, quantity, product.getAvailableQuantity());
+        }
+      });
+    } catch (RuntimeException e) {
+      if (!releaseOnRollback) {
+        heldByLedger.forEach(hotStockLedger::release);
+      }
+      throw e;
+    }
+  }
+
+  private InventoryResponseDTO validateOrderItem(CreateOrderItemDTO item, Product product) {
+    if (product == null) {
       return createErrorResponse(
           String.format(PRODUCT_NOT_FOUND_MESSAGE, item.productId()));
-    } catch (Exception e) {
+    }
+    if (item.quantity() == null || item.quantity() <= 0) {
+      return createErrorResponse(String.format(INVALID_QUANTITY_MESSAGE, item.productId()));
+    }
+    int availableQuantity = availableQuantity(product);
+    if (isInsufficientStock(item.quantity(), availableQuantity)) {
       return createErrorResponse(
-          String.format(GENERIC_ERROR_MESSAGE, e.getMessage()));
+          String.format(INSUFFICIENT_STOCK_MESSAGE,
+              item.productId(),
+              item.quantity(),
+              availableQuantity));
     }
+
+    return createSuccessResponse(
+        String.format(VALIDATION_SUCCESS_MESSAGE, item.productId()),
+        product);
   }
 
   public Product create(ProductRequestDTO productDTO) {
@@ -71,41 +339,158 @@ public class ProductService {
     product.setDescription(productDTO.description());
     product.setAvailableQuantity(productDTO.availableQuantity());
     product.setPrice(productDTO.price());
-    return this.productRepository.save(product);
+    Product created = this.productRepository.save(product);
+    productCache.invalidateAndReindex(List.of(created.getId()));
+    productSearchIndex.index(created);
+    return created;
   }
 
   public Product update(Long id, ProductUpdateRequestDTO productDTO) {
-    Product product = findById(id);
-    if (product == null) {
-      throw new ProductNotFoundException(id);
-    }
+    Product updated = retryExecutor.execute(() -> {
+      Product product = loadProduct(id);
+      if (product == null) {
+        throw new ProductNotFoundException(id);
+      }
 
-    Optional.ofNullable(productDTO.name())
-        .ifPresent(product::setName);
-    Optional.ofNullable(productDTO.description())
-        .ifPresent(product::setDescription);
+      Optional.ofNullable(productDTO.name())
+          .ifPresent(product::setName);
+      Optional.ofNullable(productDTO.description())
+          .ifPresent(product::setDescription);
 
-    Optional.ofNullable(productDTO.price())
-        .ifPresent(product::setPrice);
+      Optional.ofNullable(productDTO.price())
+          .ifPresent(product::setPrice);
 
-    return productRepository.save(product);
+      return productRepository.save(product);
+    });
+    productCache.invalidateAndReindex(List.of(id));
+    productSearchIndex.index(updated);
+    return updated;
   }
 
   public Product updateQuantity(Long id, Integer availableQuantity) {
-    Product product = findById(id);
-    if (availableQuantity == null || availableQuantity <= 0) {
-      throw new AvaliableQuantityProductException();
+    if (hotStockLedger.isHot(id)) {
+      // An absolute value would not count the units the ledgers already hold, which would stay sellable.
+      throw new HotProductQuantityException(id);
+    }
+    Product updated = retryExecutor.execute(() -> {
+      Product product = loadProduct(id);
+      if (availableQuantity == null || availableQuantity <= 0) {
+        throw new AvaliableQuantityProductException();
+      }
+      product.setAvailableQuantity(availableQuantity);
+      return productRepository.save(product);
+    });
+    productCache.invalidate(id);
+    return updated;
+  }
+
+  @Transactional
+  public List<StockAdjustmentResultDTO> adjustStock(List<StockAdjustmentDTO> adjustments) {
+    StockAdjustmentStatus[] statuses = new StockAdjustmentStatus[adjustments.size()];
+    List<Integer> valid = new ArrayList<>(adjustments.size());
+    for (int i = 0; i < adjustments.size(); i++) {
+      StockAdjustmentDTO adjustment = adjustments.get(i);
+      if (!isValidAdjustment(adjustment)) {
+        statuses[i] = StockAdjustmentStatus.INVALID;
+      } else if (adjustment.isAbsolute() && hotStockLedger.isHot(adjustment.productId())) {
+        // Same as updateQuantity: hot products only take deltas.
+        statuses[i] = StockAdjustmentStatus.HOT_PRODUCT;
+      } else {
+        valid.add(i);
+      }
+    }
+    // Same product-ID lock order as reserveOrderItems; the sort is stable, so repeated IDs apply in request order.
+    valid.sort(Comparator.comparing(i -> adjustments.get(i).productId()));
+
+    int[] updated = productBatchRepository.adjustQuantities(valid.stream().map(adjustments::get).toList());
+
+    Set<Long> rejectedIds = new HashSet<>();
+    Set<Long> appliedIds = new HashSet<>();
+    for (int k = 0; k < updated.length; k++) {
+      Long productId = adjustments.get(valid.get(k)).productId();
+      (updated[k] == 0 ? rejectedIds : appliedIds).add(productId);
+    }
+    Set<Long> existingIds = rejectedIds.isEmpty() ? Set.of()
+        : new HashSet<>(productRepository.findExistingIds(rejectedIds));
+
+    for (int k = 0; k < updated.length; k++) {
+      Long productId = adjustments.get(valid.get(k)).productId();
+      statuses[valid.get(k)] = updated[k] != 0 ? StockAdjustmentStatus.APPLIED
+          : existingIds.contains(productId) ? StockAdjustmentStatus.INSUFFICIENT_STOCK
+              : StockAdjustmentStatus.NOT_FOUND;
+    }
+    productCache.invalidateAll(appliedIds);
+
+    List<StockAdjustmentResultDTO> results = new ArrayList<>(adjustments.size());
+    for (int i = 0; i < adjustments.size(); i++) {
+      results.add(new StockAdjustmentResultDTO(adjustments.get(i).productId(), statuses[i]));
     }
-    product.setAvailableQuantity(availableQuantity);
-    return productRepository.save(product);
+    return results;
   }
 
   public void delete(Long id) {
-    Product product = findById(id);
-    if (product == null) {
-      throw new ProductNotFoundException(id);
+    retryExecutor.execute(() -> {
+      Product product = loadProduct(id);
+      if (product == null) {
+        throw new ProductNotFoundException(id);
+      }
+      productRepository.delete(product);
+    });
+    productCache.invalidateAndReindex(List.of(id));
+    productSearchIndex.remove(id);
+  }
+
+  private static String encodeCursor(Product last) {
+    String position = last.getCreatedAt() + "|" + last.getId();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static ScrollPosition decodeCursor(String cursor) {
+    try {
+      String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+      return new ScrollPosition(LocalDateTime.parse(position[0]), Long.valueOf(position[1]));
+    } catch (RuntimeException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+
+  private record ScrollPosition(LocalDateTime createdAt, Long id) {
+  }
+
+  private Product cachedProduct(Long id) {
+    return productCache.get(id, key -> productRepository.findById(key).orElse(null));
+  }
+
+  private static Set<Long> productIds(List<CreateOrderItemDTO> items) {
+    Set<Long> productIds = new HashSet<>();
+    for (CreateOrderItemDTO item : items) {
+      if (item.productId() != null) {
+        productIds.add(item.productId());
+      }
+    }
+    return productIds;
+  }
+
+  private static Map<Long, Product> indexById(Iterable<Product> products) {
+    Map<Long, Product> result = new HashMap<>();
+    products.forEach(product -> result.put(product.getId(), product));
+    return result;
+  }
+
+  private int availableQuantity(Product product) {
+    return product.getAvailableQuantity() + (int) hotStockLedger.available(product.getId());
+  }
+
+  private Product loadProduct(Long id) {
+    return productRepository.findById(id)
+        .orElseThrow(() -> new ProductNotFoundException(id));
+  }
+
+  private static boolean isValidAdjustment(StockAdjustmentDTO adjustment) {
+    if (adjustment.productId() == null || (adjustment.delta() == null) == (adjustment.availableQuantity() == null)) {
+      return false;
     }
-    productRepository.delete(product);
+    return !adjustment.isAbsolute() || adjustment.availableQuantity() >= 0;
   }
 
   public boolean isAvailableQuantityInvalid(Integer availableQuantity) {
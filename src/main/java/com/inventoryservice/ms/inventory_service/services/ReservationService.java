@@ -0,0 +1,115 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inventoryservice.ms.inventory_service.entities.StockReservation;
+import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.StockAdjustmentDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.StockReservationDTO;
+import com.inventoryservice.ms.inventory_service.exceptions.ReservationNotFoundException;
+import com.inventoryservice.ms.inventory_service.repositories.ProductBatchRepository;
+import com.inventoryservice.ms.inventory_service.repositories.StockReservationRepository;
+
+@Service
+public class ReservationService {
+  private final ProductService productService;
+  private final StockReservationRepository stockReservationRepository;
+  private final ProductBatchRepository productBatchRepository;
+  private final ProductCache productCache;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration ttl;
+  private final int sweepBatchSize;
+
+  public ReservationService(
+      ProductService productService,
+      StockReservationRepository stockReservationRepository,
+      ProductBatchRepository productBatchRepository,
+      ProductCache productCache,
+      PlatformTransactionManager transactionManager,
+      @Value("${inventory.reservations.ttl:15m}") Duration ttl,
+      @Value("${inventory.reservations.sweep-batch-size:1000}") int sweepBatchSize) {
+    this.productService = productService;
+    this.stockReservationRepository = stockReservationRepository;
+    this.productBatchRepository = productBatchRepository;
+    this.productCache = productCache;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.ttl = ttl;
+    this.sweepBatchSize = Math.max(1, sweepBatchSize);
+  }
+
+  @Transactional
+  public StockReservationDTO reserve(String reservationId, List<CreateOrderItemDTO> items,
+      Map<Long, Integer> heldHotStock) {
+    productService.reserveOrderItems(items, heldHotStock);
+
+    LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+    Map<Long, Integer> quantities = new TreeMap<>();
+    items.forEach(item -> quantities.merge(item.productId(), item.quantity(), Integer::sum));
+    List<StockReservation> lines = new ArrayList<>(quantities.size());
+    quantities.forEach((productId, quantity) -> lines.add(
+        new StockReservation(null, reservationId, productId, quantity, expiresAt)));
+    stockReservationRepository.saveAll(lines);
+    return new StockReservationDTO(reservationId, expiresAt);
+  }
+
+  @Transactional
+  public void confirm(String reservationId) {
+    // The stock stays deducted; only the expiry is dropped.
+    if (stockReservationRepository.deleteByReservationId(reservationId) == 0) {
+      throw new ReservationNotFoundException(reservationId);
+    }
+  }
+
+  @Transactional
+  public void cancel(String reservationId) {
+    List<StockReservation> lines = stockReservationRepository.findByReservationId(reservationId);
+    if (lines.isEmpty()) {
+      throw new ReservationNotFoundException(reservationId);
+    }
+    restore(lines);
+  }
+
+  @Scheduled(fixedDelayString = "${inventory.reservations.sweep-interval-ms:1000}")
+  public void releaseExpired() {
+    LocalDateTime now = LocalDateTime.now();
+    int released;
+    do {
+      released = transactionTemplate.execute(status -> {
+        List<StockReservation> expired = stockReservationRepository.lockExpired(now, sweepBatchSize);
+        restore(expired);
+        return expired.size();
+      });
+    } while (released == sweepBatchSize);
+  }
+
+  private void restore(List<StockReservation> lines) {
+    if (lines.isEmpty()) {
+      return;
+    }
+    // One delta per product, applied in product-ID order like every other stock write.
+    Map<Long, Integer> quantities = new TreeMap<>();
+    List<Long> lineIds = new ArrayList<>(lines.size());
+    for (StockReservation line : lines) {
+      quantities.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+      lineIds.add(line.getId());
+    }
+    List<StockAdjustmentDTO> deltas = new ArrayList<>(quantities.size());
+    quantities.forEach((productId, quantity) -> deltas.add(new StockAdjustmentDTO(productId, quantity, null)));
+
+    productBatchRepository.adjustQuantities(deltas);
+    stockReservationRepository.deleteAllByIdInBatch(lineIds);
+    productCache.invalidateAll(quantities.keySet());
+  }
+}
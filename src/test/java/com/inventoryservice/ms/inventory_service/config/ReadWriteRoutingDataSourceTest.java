@@ -0,0 +1,99 @@
+package com.inventoryservice.ms.inventory_service.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+public class ReadWriteRoutingDataSourceTest {
+    private HikariDataSource primary;
+    private HikariDataSource replicaOne;
+    private HikariDataSource replicaTwo;
+    private ReplicaDataSources replicas;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setup() {
+        primary = database("primary");
+        replicaOne = database("replica-1");
+        replicaTwo = database("replica-2");
+        replicas = new ReplicaDataSources(List.of(replicaOne, replicaTwo));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicas));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void teardown() {
+        replicas.close();
+        primary.close();
+    }
+
+    @Test
+    void testReadOnlyTransactionsAlternateBetweenReplicas() {
+        List<String> served = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            served.add(readOnly.execute(status -> serverName()));
+        }
+
+        assertEquals(List.of("replica-1", "replica-2", "replica-1", "replica-2"), served);
+    }
+
+    @Test
+    void testWritesAndNonTransactionalReadsGoToThePrimary() {
+        assertEquals("primary", readWrite.execute(status -> serverName()));
+        assertEquals("primary", serverName());
+    }
+
+    @Test
+    void testUnreachableReplicaIsTakenOutOfRotation() {
+        replicaOne.close();
+
+        assertEquals("replica-2", readOnly.execute(status -> serverName()));
+        assertEquals("replica-2", readOnly.execute(status -> serverName()));
+        replicas.checkHealth();
+        assertEquals(1, replicas.healthyCount());
+    }
+
+    @Test
+    void testReadsFallBackToThePrimaryWhenNoReplicaIsHealthy() {
+        replicaOne.close();
+        replicaTwo.close();
+        replicas.checkHealth();
+
+        assertEquals(0, replicas.healthyCount());
+        assertEquals("primary", readOnly.execute(status -> serverName()));
+    }
+
+    private String serverName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM server", String.class);
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE server (name VARCHAR(32))");
+        jdbcTemplate.update("INSERT INTO server VALUES (?)", name);
+        return dataSource;
+    }
+}
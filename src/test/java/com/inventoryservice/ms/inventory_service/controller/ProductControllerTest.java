@@ -1,12 +1,24 @@
 package com.inventoryservice.ms.inventory_service.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventoryservice.ms.inventory_service.config.ConditionalRequestConfig;
 import com.inventoryservice.ms.inventory_service.controllers.ProductController;
 import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductFilterDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductRequestDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductUpdateRequestDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.StockAdjustmentDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.UpdateQuantityDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductCursorPageDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductImportErrorDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductImportResultDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductSummaryDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductSummarySliceDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.StockAdjustmentResultDTO;
+import com.inventoryservice.ms.inventory_service.entities.enums.StockAdjustmentStatus;
 import com.inventoryservice.ms.inventory_service.exceptions.ProductNotFoundException;
+import com.inventoryservice.ms.inventory_service.services.ProductExportService;
+import com.inventoryservice.ms.inventory_service.services.ProductImportService;
 import com.inventoryservice.ms.inventory_service.services.ProductService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,25 +26,36 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.OutputStream;
 import java.util.List;
 
 @WebMvcTest(ProductController.class)
+@Import(ConditionalRequestConfig.class)
 public class ProductControllerTest {
 
 	@Autowired
 	private MockMvc mockMvc;
 	@MockitoBean
 	private ProductService productService;
+	@MockitoBean
+	private ProductExportService productExportService;
+	@MockitoBean
+	private ProductImportService productImportService;
 	@Autowired
 	private ObjectMapper objectMapper;
 
@@ -80,6 +103,65 @@ public class ProductControllerTest {
 						.value(2));
 	}
 
+	@Test
+	void testScrollProducts() throws Exception {
+		Mockito.when(productService.scroll(null, 2))
+				.thenReturn(new ProductCursorPageDTO(List.of(product1, product2), "next-cursor"));
+
+		mockMvc.perform(get(BASE_URL + "/scroll").param("size", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(2))
+				.andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+	}
+
+	@Test
+	void testFilterProducts() throws Exception {
+		ProductFilterDTO filter = new ProductFilterDTO(10.0, 20.0, 1, null, null, null);
+		PageRequest pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "price"));
+		Mockito.when(productService.filter(filter, pageable))
+				.thenReturn(new ProductSummarySliceDTO(
+						List.of(new ProductSummaryDTO(1L, "Produto 1", 19.99, 100, null)), 0, 1, true));
+
+		mockMvc.perform(get(BASE_URL + "/filter")
+				.param("minPrice", "10")
+				.param("maxPrice", "20")
+				.param("minQuantity", "1")
+				.param("size", "1")
+				.param("sort", "price,asc"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].id").value(1L))
+				.andExpect(jsonPath("$.content[0].description").doesNotExist())
+				.andExpect(jsonPath("$.hasNext").value(true));
+	}
+
+	@Test
+	void testSearchProducts() throws Exception {
+		Mockito.when(productService.search("produto", 20)).thenReturn(List.of(product2, product1));
+
+		mockMvc.perform(get(BASE_URL + "/search").param("q", "produto"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(2))
+				.andExpect(jsonPath("$[0].id").value(2L));
+	}
+
+	@Test
+	void testExportCatalog() throws Exception {
+		Mockito.when(productExportService.exportCatalog(any())).thenAnswer(invocation -> {
+			OutputStream out = invocation.getArgument(0);
+			out.write("{\"id\":1}\n{\"id\":2}\n".getBytes());
+			return 2L;
+		});
+
+		MvcResult result = mockMvc.perform(get(BASE_URL + "/export"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+				.andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+	}
+
 	@Test
 	void testGetProductById() throws Exception {
 		Mockito.when(productService.findById(1L))
@@ -90,6 +172,40 @@ public class ProductControllerTest {
 				.andExpect(jsonPath("$.id").value(1L));
 	}
 
+	@Test
+	void testGetProductById_SetsVersionEtag() throws Exception {
+		product1.setVersion(3L);
+		Mockito.when(productService.findVersion(1L)).thenReturn(3L);
+		Mockito.when(productService.findById(1L)).thenReturn(product1);
+
+		mockMvc.perform(get(BASE_URL + "/{id}", 1L))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""));
+	}
+
+	@Test
+	void testGetProductById_NotModified() throws Exception {
+		Mockito.when(productService.findVersion(1L)).thenReturn(3L);
+
+		mockMvc.perform(get(BASE_URL + "/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+
+		Mockito.verify(productService, Mockito.never()).findById(1L);
+	}
+
+	@Test
+	void testListAllProducts_NotModified() throws Exception {
+		Mockito.when(productService.listAll(any())).thenReturn(new PageImpl<>(List.of(product1, product2)));
+
+		String etag = mockMvc.perform(get(BASE_URL))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get(BASE_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+
 	@Test
 	void testCreateProduct() throws Exception {
 		ProductRequestDTO dto = new ProductRequestDTO("Produto", "Descricao", 10, 99.99);
@@ -104,6 +220,19 @@ public class ProductControllerTest {
 				.andExpect(jsonPath("$.id").value(1L));
 	}
 
+	@Test
+	void testImportProducts() throws Exception {
+		Mockito.when(productImportService.importProducts(any(), any()))
+				.thenReturn(new ProductImportResultDTO(2, 1, 1, List.of(new ProductImportErrorDTO(2, "name: obrigatório"))));
+
+		mockMvc.perform(post(BASE_URL + "/import")
+				.contentType("text/csv")
+				.content("name,description,availableQuantity,price\nCaderno,Caderno,10,15.99\n,Sem nome,1,1.0\n"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.imported").value(1))
+				.andExpect(jsonPath("$.errors[0].row").value(2));
+	}
+
 	@Test
 	void testUpdateProduct() throws Exception {
 		Long id = 1L;
@@ -151,6 +280,25 @@ public class ProductControllerTest {
 				.andExpect(jsonPath("$.availableQuantity").value(newQuantity));
 	}
 
+	@Test
+	void testAdjustStock() throws Exception {
+		List<StockAdjustmentDTO> adjustments = List.of(
+				new StockAdjustmentDTO(1L, -2, null),
+				new StockAdjustmentDTO(2L, null, 30));
+
+		Mockito.when(productService.adjustStock(adjustments)).thenReturn(List.of(
+				new StockAdjustmentResultDTO(1L, StockAdjustmentStatus.APPLIED),
+				new StockAdjustmentResultDTO(2L, StockAdjustmentStatus.NOT_FOUND)));
+
+		mockMvc.perform(patch(BASE_URL + "/quantity")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(adjustments)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].status").value("APPLIED"))
+				.andExpect(jsonPath("$[1].productId").value(2))
+				.andExpect(jsonPath("$[1].status").value("NOT_FOUND"));
+	}
+
 	@Test
 	void testDeleteProduct() throws Exception {
 		Long productId = product1.getId();
@@ -0,0 +1,44 @@
+package com.inventoryservice.ms.inventory_service.controller;
+
+import com.inventoryservice.ms.inventory_service.controllers.ReservationController;
+import com.inventoryservice.ms.inventory_service.exceptions.ReservationNotFoundException;
+import com.inventoryservice.ms.inventory_service.services.ReservationService;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReservationController.class)
+public class ReservationControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@MockitoBean
+	private ReservationService reservationService;
+
+	private static final String BASE_URL = "/api/v1/reservations";
+
+	@Test
+	void testConfirmReservation() throws Exception {
+		mockMvc.perform(post(BASE_URL + "/pedido-1/confirm"))
+				.andExpect(status().isNoContent());
+
+		Mockito.verify(reservationService).confirm("pedido-1");
+	}
+
+	@Test
+	void testCancelReservation_NotFound() throws Exception {
+		Mockito.doThrow(new ReservationNotFoundException("pedido-2"))
+				.when(reservationService).cancel("pedido-2");
+
+		mockMvc.perform(delete(BASE_URL + "/pedido-2"))
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.message").value("Reservation pedido-2 not found or already expired"));
+	}
+}
@@ -0,0 +1,270 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.RabbitMQMessageDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.OrderRequestDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ErrorMessageDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.InventoryResponseDTO;
+import com.inventoryservice.ms.inventory_service.entities.enums.ErrorType;
+import com.inventoryservice.ms.inventory_service.entities.enums.InventoryStatus;
+import com.inventoryservice.ms.inventory_service.entities.enums.OrderItemStatus;
+import com.inventoryservice.ms.inventory_service.exceptions.InsufficientStockException;
+import com.inventoryservice.ms.inventory_service.repositories.ProductBatchRepository;
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+import com.inventoryservice.ms.inventory_service.services.HotStockLedger;
+import com.inventoryservice.ms.inventory_service.services.OptimisticLockRetryExecutor;
+import com.inventoryservice.ms.inventory_service.services.ProcessedMessageStore;
+import com.inventoryservice.ms.inventory_service.services.ProductCache;
+import com.inventoryservice.ms.inventory_service.services.ProductService;
+import com.inventoryservice.ms.inventory_service.services.ProductSearchIndex;
+import com.inventoryservice.ms.inventory_service.services.ReservationService;
+
+public class InventoryListenerTest {
+    private ProductService productService;
+    private ReservationService reservationService;
+    private OutboxPublisher outboxPublisher;
+    private RabbitTemplate rabbitTemplate;
+    private ProcessedMessageStore processedMessageStore;
+    private InventoryListener inventoryListener;
+
+    private RabbitMQMessageDTO message;
+    private SimpleMeterRegistry meterRegistry;
+    private final Map<Long, Product> products = Map.of();
+
+    @BeforeEach
+    void setup() {
+        productService = mock(ProductService.class);
+        outboxPublisher = mock(OutboxPublisher.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        processedMessageStore = mock(ProcessedMessageStore.class);
+        reservationService = mock(ReservationService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        inventoryListener = new InventoryListener(productService, reservationService, outboxPublisher, rabbitTemplate,
+                processedMessageStore, mock(PlatformTransactionManager.class), meterRegistry);
+
+        message = new RabbitMQMessageDTO("order-created", new OrderRequestDTO(1L, List.of(
+                new CreateOrderItemDTO(1L, 2, 10.0),
+                new CreateOrderItemDTO(2L, 1, 5.0))));
+        when(productService.findAllByIds(Set.of(1L, 2L))).thenReturn(products);
+    }
+
+    @Test
+    void testHandleOrderCreated_Success() {
+        when(productService.checkOrderItems(message.data().items(), products)).thenReturn(OrderItemStatus.AVAILABLE);
+
+        InventoryResponseDTO response = inventoryListener.handleOrderCreated(message, "msg-1");
+
+        assertEquals(InventoryStatus.SUCCESS, response.status());
+        verify(reservationService).reserve("msg-1", message.data().items(), Map.of());
+        verify(processedMessageStore).record("msg-1", response);
+        verify(productService, never()).validateOrderItems(any(), any());
+        assertEquals(1, meterRegistry.get(OrderStageTimers.NAME).tag("stage", "reserve").timer().count());
+        assertEquals(0, meterRegistry.get("inventory.orders.in_flight").gauge().value());
+        verify(outboxPublisher, never()).enqueue(any(String.class), any(String.class), any(Object.class));
+    }
+
+    @Test
+    void testHandleOrderCreated_ValidationError() {
+        when(productService.checkOrderItems(message.data().items(), products))
+                .thenReturn(OrderItemStatus.INSUFFICIENT_STOCK);
+        when(productService.validateOrderItems(message.data().items(), products)).thenReturn(List.of(
+                new InventoryResponseDTO(InventoryStatus.SUCCESS, "ok", null),
+                new InventoryResponseDTO(InventoryStatus.ERROR, "Estoque insuficiente", null)));
+
+        InventoryResponseDTO response = inventoryListener.handleOrderCreated(message, "msg-1");
+
+        assertEquals(InventoryStatus.ERROR, response.status());
+        assertEquals("Estoque insuficiente", response.message());
+        verify(reservationService, never()).reserve(any(), any(), any());
+        verify(outboxPublisher).enqueue(eq("error-exchange"), eq("error-routing-key"), any(ErrorMessageDTO.class));
+    }
+
+    @Test
+    void testHandleOrderCreated_ReservationRejected() {
+        when(productService.checkOrderItems(message.data().items(), products)).thenReturn(OrderItemStatus.AVAILABLE);
+        when(productService.holdHotStock(message.data().items())).thenReturn(Map.of(1L, 2));
+        doThrow(new InsufficientStockException(2L, 1, 0))
+                .when(reservationService).reserve("msg-1", message.data().items(), Map.of(1L, 2));
+
+        InventoryResponseDTO response = inventoryListener.handleOrderCreated(message, "msg-1");
+
+        assertEquals(InventoryStatus.ERROR, response.status());
+        verify(productService).releaseHotStock(Map.of(1L, 2));
+        verify(outboxPublisher).enqueue(eq("error-exchange"), eq("error-routing-key"),
+                argThat((ErrorMessageDTO error) -> error.errorType() == ErrorType.INSUFFICIENT_STOCK));
+    }
+
+    @Test
+    void testHandleOrderCreated_DuplicateAnsweredFromStore() {
+        InventoryResponseDTO previous = new InventoryResponseDTO(InventoryStatus.SUCCESS, "já reservado", null);
+        when(processedMessageStore.find("msg-1")).thenReturn(Optional.of(previous));
+
+        InventoryResponseDTO response = inventoryListener.handleOrderCreated(message, "msg-1");
+
+        assertEquals(previous, response);
+        verifyNoInteractions(productService, reservationService, outboxPublisher);
+    }
+
+    @Test
+    void testHandleOrderCreated_WithoutMessageIdIsNotDeduplicated() {
+        when(productService.checkOrderItems(message.data().items(), products)).thenReturn(OrderItemStatus.AVAILABLE);
+
+        InventoryResponseDTO response = inventoryListener.handleOrderCreated(message, null);
+
+        assertEquals(InventoryStatus.SUCCESS, response.status());
+        verify(processedMessageStore).find(null);
+        verify(processedMessageStore).record(null, response);
+        verify(reservationService).reserve(argThat(id -> id != null), eq(message.data().items()), eq(Map.of()));
+    }
+
+    @Test
+    void testHandleOrderCreated_ConcurrentDuplicateReturnsWinningOutcome() {
+        InventoryResponseDTO winner = new InventoryResponseDTO(InventoryStatus.SUCCESS, "reservado", null);
+        when(productService.checkOrderItems(message.data().items(), products)).thenReturn(OrderItemStatus.AVAILABLE);
+        when(processedMessageStore.find("pedido-7")).thenReturn(Optional.empty()).thenReturn(Optional.of(winner));
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .when(processedMessageStore).record(eq("pedido-7"), any());
+
+        InventoryResponseDTO response = inventoryListener.handleOrderCreated(message, "pedido-7");
+
+        assertEquals(winner, response);
+        verify(outboxPublisher, never()).enqueue(any(String.class), any(String.class), any(Object.class));
+    }
+
+    @Test
+    void testHandleOrderCreated_ConcurrentDuplicateOfRejectionReturnsWinningOutcome() {
+        InventoryResponseDTO winner = new InventoryResponseDTO(InventoryStatus.ERROR, "Estoque insuficiente", null);
+        when(productService.checkOrderItems(message.data().items(), products)).thenReturn(OrderItemStatus.AVAILABLE);
+        doThrow(new InsufficientStockException(2L, 1, 0))
+                .when(reservationService).reserve("pedido-7", message.data().items(), Map.of());
+        when(processedMessageStore.find("pedido-7")).thenReturn(Optional.empty()).thenReturn(Optional.of(winner));
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .when(processedMessageStore).record(eq("pedido-7"), any());
+
+        InventoryResponseDTO response = inventoryListener.handleOrderCreated(message, "pedido-7");
+
+        assertEquals(winner, response);
+    }
+
+    @Test
+    void testHandleOrderCreated_ResendAfterTransientFailureIsProcessedAgain() {
+        when(productService.checkOrderItems(message.data().items(), products)).thenReturn(OrderItemStatus.AVAILABLE);
+        when(reservationService.reserve("msg-1", message.data().items(), Map.of()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(null);
+
+        InventoryResponseDTO failed = inventoryListener.handleOrderCreated(message, "msg-1");
+        InventoryResponseDTO retried = inventoryListener.handleOrderCreated(message, "msg-1");
+
+        assertEquals(InventoryStatus.ERROR, failed.status());
+        assertEquals(InventoryStatus.SUCCESS, retried.status());
+        verify(processedMessageStore, never()).record("msg-1", failed);
+        verify(processedMessageStore).record("msg-1", retried);
+        verify(outboxPublisher).enqueue(eq("error-exchange"), eq("error-routing-key"),
+                argThat((ErrorMessageDTO error) -> error.errorType() == ErrorType.GENERIC_ERROR));
+    }
+
+    @Test
+    void testHandleOrderCreated_ItemWithoutQuantityIsAValidationError() {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        ProductCache productCache = new ProductCache(100, Duration.ofMinutes(5), mock(ProductInvalidationPublisher.class));
+        ProductService realProductService = new ProductService(productRepository, mock(ProductBatchRepository.class),
+                new OptimisticLockRetryExecutor(3, 0, 0), productCache,
+                new HotStockLedger(Set.of(), 50, productRepository, productCache, mock(PlatformTransactionManager.class)),
+                mock(ProductSearchIndex.class));
+        inventoryListener = new InventoryListener(realProductService, reservationService, outboxPublisher,
+                rabbitTemplate, processedMessageStore, mock(PlatformTransactionManager.class), meterRegistry);
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(
+                new Product(1L, "Caderno", "Caderno espiral", 100, 15.99, LocalDateTime.now(), 0L)));
+        RabbitMQMessageDTO withoutQuantity = new RabbitMQMessageDTO("order-created",
+                new OrderRequestDTO(1L, List.of(new CreateOrderItemDTO(1L, null, 10.0))));
+
+        InventoryResponseDTO response = inventoryListener.handleOrderCreated(withoutQuantity, "msg-1");
+
+        assertEquals(InventoryStatus.ERROR, response.status());
+        assertEquals("A quantidade solicitada para o produto ID 1 deve ser maior que zero.", response.message());
+        verify(reservationService, never()).reserve(any(), any(), any());
+        verify(processedMessageStore).record("msg-1", response);
+        verify(outboxPublisher).enqueue(eq("error-exchange"), eq("error-routing-key"),
+                argThat((ErrorMessageDTO error) -> error.errorType() == ErrorType.VALIDATION_ERROR));
+    }
+
+    @Test
+    void testHandleOrderBatch_FetchesProductsOnceAndRepliesPerMessage() {
+        RabbitMQMessageDTO second = new RabbitMQMessageDTO("order-created", new OrderRequestDTO(2L, List.of(
+                new CreateOrderItemDTO(2L, 1, 5.0),
+                new CreateOrderItemDTO(3L, 4, 7.0))));
+        when(productService.findAllByIds(Set.of(1L, 2L, 3L))).thenReturn(products);
+        when(productService.checkOrderItems(message.data().items(), products)).thenReturn(OrderItemStatus.AVAILABLE);
+        when(productService.checkOrderItems(second.data().items(), products))
+                .thenReturn(OrderItemStatus.PRODUCT_NOT_FOUND);
+        when(productService.validateOrderItems(second.data().items(), products)).thenReturn(List.of(
+                new InventoryResponseDTO(InventoryStatus.ERROR, "Produto com ID 3 não encontrado", null)));
+
+        inventoryListener.handleOrderBatch(List.of(
+                MessageBuilder.withPayload(message)
+                        .setHeader(AmqpHeaders.REPLY_TO, "amq.rabbitmq.reply-to")
+                        .setHeader(AmqpHeaders.MESSAGE_ID, "pedido-1")
+                        .setHeader(AmqpHeaders.CORRELATION_ID, "1")
+                        .build(),
+                MessageBuilder.withPayload(second).build()));
+
+        verify(productService, times(1)).findAllByIds(Set.of(1L, 2L, 3L));
+        verify(reservationService).reserve("pedido-1", message.data().items(), Map.of());
+        verify(reservationService, never()).reserve(any(), eq(second.data().items()), any());
+        verify(outboxPublisher).enqueue(eq("error-exchange"), eq("error-routing-key"),
+                argThat((ErrorMessageDTO error) -> error.errorType() == ErrorType.VALIDATION_ERROR));
+        verify(rabbitTemplate, times(1)).convertAndSend(eq(""), eq("amq.rabbitmq.reply-to"),
+                argThat((InventoryResponseDTO response) -> response.status() == InventoryStatus.SUCCESS),
+                any(MessagePostProcessor.class));
+    }
+
+    @Test
+    void testHandleOrderBatch_RejectsOrderWithoutItemsAndProcessesTheRest() {
+        RabbitMQMessageDTO malformed = new RabbitMQMessageDTO("order-created", new OrderRequestDTO(2L, null));
+        when(productService.checkOrderItems(message.data().items(), products)).thenReturn(OrderItemStatus.AVAILABLE);
+
+        inventoryListener.handleOrderBatch(List.of(
+                MessageBuilder.withPayload(malformed).setHeader(AmqpHeaders.MESSAGE_ID, "pedido-2").build(),
+                MessageBuilder.withPayload(message).setHeader(AmqpHeaders.MESSAGE_ID, "pedido-1").build()));
+
+        verify(processedMessageStore).record(eq("pedido-2"),
+                argThat((InventoryResponseDTO response) -> response.status() == InventoryStatus.ERROR));
+        verify(reservationService).reserve("pedido-1", message.data().items(), Map.of());
+        verify(outboxPublisher).enqueue(eq("error-exchange"), eq("error-routing-key"),
+                argThat((ErrorMessageDTO error) -> error.errorType() == ErrorType.VALIDATION_ERROR));
+    }
+}
@@ -0,0 +1,72 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.inventoryservice.ms.inventory_service.config.RabbitMqConfig;
+import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.RabbitMQMessageDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.OrderRequestDTO;
+
+public class Jackson2CborMessageConverterTest {
+    private final MessageConverter converter = new RabbitMqConfig().messageConverter();
+    private final RabbitMQMessageDTO order = new RabbitMQMessageDTO("order_created",
+            new OrderRequestDTO(7L, List.of(new CreateOrderItemDTO(1L, 2, 10.5), new CreateOrderItemDTO(2L, 1, 3.0))));
+
+    @Test
+    void testCborRoundTrip() {
+        Message message = new Jackson2CborMessageConverter().toMessage(order, new MessageProperties());
+
+        assertEquals("application/cbor", message.getMessageProperties().getContentType());
+        assertNull(message.getMessageProperties().getContentEncoding());
+        message.getMessageProperties().setInferredArgumentType(RabbitMQMessageDTO.class);
+        assertEquals(order, converter.fromMessage(message));
+    }
+
+    @Test
+    void testJsonIsStillAcceptedAndProduced() {
+        Message json = converter.toMessage(order, new MessageProperties());
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, json.getMessageProperties().getContentType());
+
+        json.getMessageProperties().setInferredArgumentType(RabbitMQMessageDTO.class);
+        assertEquals(order, converter.fromMessage(json));
+    }
+
+    @Test
+    void testMessagesWithoutContentTypeAreReadAsJson() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(null);
+        properties.setInferredArgumentType(RabbitMQMessageDTO.class);
+        Message message = new Message(
+                "{\"pattern\":\"order_created\",\"data\":{\"clientId\":7,\"items\":[{\"productId\":1,\"quantity\":2,\"unitPrice\":10.5},{\"productId\":2,\"quantity\":1,\"unitPrice\":3.0}]}}"
+                        .getBytes(StandardCharsets.UTF_8),
+                properties);
+
+        assertEquals(order, converter.fromMessage(message));
+    }
+
+    @Test
+    void testCborIgnoresUnknownPropertiesLikeJson() throws Exception {
+        byte[] body = new CBORMapper().writeValueAsBytes(Map.of(
+                "pattern", "order_created",
+                "source", "checkout",
+                "data", Map.of("clientId", 7, "items", List.of(
+                        Map.of("productId", 1, "quantity", 2, "unitPrice", 10.5),
+                        Map.of("productId", 2, "quantity", 1, "unitPrice", 3.0)))));
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(Jackson2CborMessageConverter.CONTENT_TYPE_CBOR);
+        properties.setInferredArgumentType(RabbitMQMessageDTO.class);
+
+        assertEquals(order, converter.fromMessage(new Message(body, properties)));
+    }
+}
@@ -0,0 +1,131 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.inventoryservice.ms.inventory_service.entities.OutboxEvent;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ErrorMessageDTO;
+import com.inventoryservice.ms.inventory_service.entities.enums.ErrorType;
+import com.inventoryservice.ms.inventory_service.repositories.OutboxEventRepository;
+
+public class OutboxRelayTest {
+    private OutboxEventRepository outboxEventRepository;
+    private RabbitTemplate rabbitTemplate;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setup() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        confirmAll(true);
+        relay = new OutboxRelay(outboxEventRepository, rabbitTemplate, mock(PlatformTransactionManager.class), 2, 1000);
+    }
+
+    @Test
+    void testEnqueueStoresWhatConvertAndSendWouldSend() {
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        new OutboxPublisher(outboxEventRepository, converter).enqueue("error-exchange", "error-routing-key",
+                new ErrorMessageDTO(ErrorType.GENERIC_ERROR, "falha", null, Instant.EPOCH));
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent event = captor.getValue();
+        assertEquals("error-exchange", event.getExchange());
+        assertEquals("error-routing-key", event.getRoutingKey());
+        assertEquals(ErrorMessageDTO.class.getName(), event.getTypeId());
+        assertTrue(event.getPayload().contains("\"message\":\"falha\""));
+    }
+
+    @Test
+    void testRelayPublishesBatchesAndDeletesThemAfterConfirm() {
+        OutboxEvent first = event(1L);
+        OutboxEvent second = event(2L);
+        OutboxEvent third = event(3L);
+        when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(first, second)).thenReturn(List.of(third));
+
+        relay.relay();
+
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, times(3))
+                .send(eq("error-exchange"), eq("error-routing-key"), captor.capture(), any(CorrelationData.class));
+        Message message = captor.getAllValues().get(0);
+        assertEquals("outbox-1", message.getMessageProperties().getMessageId());
+        assertEquals(ErrorMessageDTO.class.getName(), message.getMessageProperties().getHeader("__TypeId__"));
+        assertEquals("{\"id\":1}", new String(message.getBody(), StandardCharsets.UTF_8));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+        assertEquals(3, relay.getConfirmedCount());
+    }
+
+    @Test
+    void testRelayKeepsNackedRows() {
+        when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(event(1L)));
+        confirmAll(false);
+
+        relay.relay();
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of());
+        assertEquals(1, relay.getNackCount());
+    }
+
+    @Test
+    void testRelayKeepsRowsWhenBrokerDoesNotConfirmInTime() {
+        relay = new OutboxRelay(outboxEventRepository, rabbitTemplate, mock(PlatformTransactionManager.class), 2, 10);
+        when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(event(1L), event(2L)));
+        doNothing().when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        relay.relay();
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of());
+        assertEquals(2, relay.getUnconfirmedCount());
+    }
+
+    @Test
+    void testBacklogIsCountedOnRefreshAndKeptWhenDatabaseFails() {
+        when(outboxEventRepository.count())
+                .thenReturn(3L)
+                .thenThrow(new DataAccessResourceFailureException("indisponível"));
+
+        assertEquals(0, relay.getBacklog());
+        relay.refreshBacklog();
+        assertEquals(3, relay.getBacklog());
+        relay.refreshBacklog();
+        assertEquals(3, relay.getBacklog());
+    }
+
+    private void confirmAll(boolean ack) {
+        doAnswer(invocation -> {
+            invocation.getArgument(3, CorrelationData.class).getFuture()
+                    .complete(new CorrelationData.Confirm(ack, ack ? null : "rejeitada"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private static OutboxEvent event(Long id) {
+        return new OutboxEvent(id, "error-exchange", "error-routing-key", ErrorMessageDTO.class.getName(),
+                "{\"id\":" + id + "}", null);
+    }
+}
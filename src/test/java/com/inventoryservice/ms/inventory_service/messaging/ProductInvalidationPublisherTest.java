@@ -0,0 +1,99 @@
+package com.inventoryservice.ms.inventory_service.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import com.inventoryservice.ms.inventory_service.entities.dto.ProductInvalidationDTO;
+import com.inventoryservice.ms.inventory_service.services.ProductCache;
+import com.inventoryservice.ms.inventory_service.services.ProductSearchIndex;
+
+public class ProductInvalidationPublisherTest {
+    private RabbitTemplate rabbitTemplate;
+    private ProductInvalidationPublisher publisher;
+
+    @BeforeEach
+    void setup() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        publisher = new ProductInvalidationPublisher(rabbitTemplate, 2);
+    }
+
+    @Test
+    void testFlush_CoalescesBurstIntoChunkedMessages() {
+        publisher.enqueue(List.of(1L, 2L));
+        publisher.enqueue(List.of(2L, 3L, 1L));
+
+        publisher.flush();
+
+        ArgumentCaptor<ProductInvalidationDTO> captor = ArgumentCaptor.forClass(ProductInvalidationDTO.class);
+        verify(rabbitTemplate, times(2)).convertAndSend(eq(ProductInvalidationPublisher.EXCHANGE), eq(""),
+                captor.capture());
+        Set<Long> published = new HashSet<>();
+        captor.getAllValues().forEach(message -> {
+            assertEquals(publisher.getInstanceId(), message.origin());
+            published.addAll(message.productIds());
+        });
+        assertEquals(Set.of(1L, 2L, 3L), published);
+    }
+
+    @Test
+    void testFlush_SendsReindexIdsApartFromStockOnlyIds() {
+        publisher.enqueue(List.of(1L));
+        publisher.enqueueReindex(List.of(2L));
+
+        publisher.flush();
+
+        verify(rabbitTemplate).convertAndSend(ProductInvalidationPublisher.EXCHANGE, "",
+                new ProductInvalidationDTO(publisher.getInstanceId(), List.of(1L), List.of(2L)));
+    }
+
+    @Test
+    void testFlush_NothingPending() {
+        publisher.flush();
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void testListener_IgnoresOwnInvalidations() {
+        ProductCache productCache = mock(ProductCache.class);
+        ProductSearchIndex productSearchIndex = mock(ProductSearchIndex.class);
+        ProductInvalidationListener listener = new ProductInvalidationListener(productCache, publisher,
+                productSearchIndex);
+
+        listener.handleInvalidation(new ProductInvalidationDTO(publisher.getInstanceId(), List.of(1L), List.of()));
+        listener.handleInvalidation(new ProductInvalidationDTO("other-instance", List.of(2L), List.of()));
+
+        verify(productCache, times(1)).evictLocal(any());
+        verify(productCache).evictLocal(List.of(2L));
+    }
+
+    @Test
+    void testListener_MarksOnlyReindexIdsStale() {
+        ProductCache productCache = mock(ProductCache.class);
+        ProductSearchIndex productSearchIndex = mock(ProductSearchIndex.class);
+        ProductInvalidationListener listener = new ProductInvalidationListener(productCache, publisher,
+                productSearchIndex);
+
+        listener.handleInvalidation(new ProductInvalidationDTO("other-instance", List.of(1L), List.of()));
+        listener.handleInvalidation(new ProductInvalidationDTO("other-instance", List.of(), List.of(2L)));
+
+        verify(productCache).evictLocal(List.of(1L));
+        verify(productCache).evictLocal(List.of(2L));
+        verify(productSearchIndex, times(1)).markStale(any());
+        verify(productSearchIndex).markStale(List.of(2L));
+    }
+}
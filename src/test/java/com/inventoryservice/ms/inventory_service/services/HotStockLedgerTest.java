@@ -0,0 +1,74 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.inventoryservice.ms.inventory_service.messaging.ProductInvalidationPublisher;
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+
+public class HotStockLedgerTest {
+    private ProductRepository productRepository;
+    private HotStockLedger ledger;
+
+    @BeforeEach
+    void setup() {
+        productRepository = mock(ProductRepository.class);
+        ledger = new HotStockLedger(Set.of(1L), 100, productRepository,
+                new ProductCache(0, Duration.ZERO, mock(ProductInvalidationPublisher.class)),
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void testReservationsShareOneClaimedChunk() {
+        when(productRepository.decrementAvailableQuantity(1L, 100)).thenReturn(1);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(ledger.tryReserve(1L, 10));
+        }
+
+        verify(productRepository, times(1)).decrementAvailableQuantity(1L, 100);
+        assertEquals(0, ledger.available(1L));
+        assertFalse(ledger.isHot(2L));
+    }
+
+    @Test
+    void testClaimsOnlyTheShortfallWhenRowHasLessThanAChunk() {
+        when(productRepository.decrementAvailableQuantity(1L, 100)).thenReturn(0);
+        when(productRepository.decrementAvailableQuantity(1L, 7)).thenReturn(1);
+
+        assertTrue(ledger.tryReserve(1L, 7));
+        assertEquals(0, ledger.available(1L));
+    }
+
+    @Test
+    void testRejectsWhenDatabaseStockIsExhausted() {
+        when(productRepository.decrementAvailableQuantity(1L, 100)).thenReturn(0);
+        when(productRepository.decrementAvailableQuantity(1L, 7)).thenReturn(0);
+
+        assertFalse(ledger.tryReserve(1L, 7));
+    }
+
+    @Test
+    void testReturnsUnsoldStockOnShutdown() {
+        when(productRepository.decrementAvailableQuantity(1L, 100)).thenReturn(1);
+        ledger.tryReserve(1L, 30);
+        ledger.release(1L, 5);
+
+        ledger.returnAllotments();
+
+        verify(productRepository).incrementAvailableQuantity(1L, 75);
+        assertEquals(0, ledger.available(1L));
+    }
+}
@@ -0,0 +1,69 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.inventoryservice.ms.inventory_service.entities.ProcessedMessage;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.InventoryResponseDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.StockReservationDTO;
+import com.inventoryservice.ms.inventory_service.entities.enums.InventoryStatus;
+import com.inventoryservice.ms.inventory_service.repositories.ProcessedMessageRepository;
+
+public class ProcessedMessageStoreTest {
+    private ProcessedMessageRepository processedMessageRepository;
+    private ProcessedMessageStore store;
+
+    @BeforeEach
+    void setup() {
+        processedMessageRepository = mock(ProcessedMessageRepository.class);
+        store = new ProcessedMessageStore(processedMessageRepository, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    void testRecordedOutcomeIsAnsweredFromMemory() {
+        InventoryResponseDTO response = new InventoryResponseDTO(InventoryStatus.SUCCESS, "reservado",
+                new StockReservationDTO("msg-1", LocalDateTime.of(2026, 1, 1, 12, 0)));
+        store.record("msg-1", response);
+
+        Optional<InventoryResponseDTO> found = store.find("msg-1");
+
+        assertEquals(response, found.get());
+        verify(processedMessageRepository).saveAndFlush(any(ProcessedMessage.class));
+        verify(processedMessageRepository, never()).findById("msg-1");
+    }
+
+    @Test
+    void testFallsBackToTableOnceThenCaches() {
+        when(processedMessageRepository.findById("msg-2")).thenReturn(Optional.of(
+                new ProcessedMessage("msg-2", InventoryStatus.SUCCESS, "reservado", "msg-2",
+                        LocalDateTime.of(2026, 1, 1, 12, 0), null)));
+
+        store.find("msg-2");
+        Optional<InventoryResponseDTO> found = store.find("msg-2");
+
+        assertEquals(new InventoryResponseDTO(InventoryStatus.SUCCESS, "reservado",
+                new StockReservationDTO("msg-2", LocalDateTime.of(2026, 1, 1, 12, 0))), found.get());
+        verify(processedMessageRepository, times(1)).findById("msg-2");
+    }
+
+    @Test
+    void testMessagesWithoutIdAreNotTracked() {
+        store.record(null, new InventoryResponseDTO(InventoryStatus.SUCCESS, "ok", null));
+
+        assertTrue(store.find(null).isEmpty());
+        verify(processedMessageRepository, never()).saveAndFlush(any());
+    }
+}
@@ -0,0 +1,68 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+
+import jakarta.persistence.EntityManager;
+
+public class ProductExportServiceTest {
+    private ProductRepository productRepository;
+    private EntityManager entityManager;
+    private ProductExportService productExportService;
+
+    @BeforeEach
+    void setup() {
+        productRepository = mock(ProductRepository.class);
+        entityManager = mock(EntityManager.class);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        productExportService = new ProductExportService(productRepository, entityManager, objectMapper);
+    }
+
+    @Test
+    void testExportCatalog_WritesOneJsonObjectPerLine() throws Exception {
+        Product product1 = new Product(1L, "Caderno", "Caderno 200 folhas", 10, 15.99,
+                LocalDateTime.of(2024, 6, 1, 10, 0), 0L);
+        Product product2 = new Product(2L, "Caneta", "Caneta azul", 20, 1.99,
+                LocalDateTime.of(2024, 6, 2, 11, 30), 3L);
+        when(productRepository.streamAll()).thenReturn(Stream.of(product1, product2));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = productExportService.exportCatalog(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"name\":\"Caderno\",\"description\":\"Caderno 200 folhas\",\"availableQuantity\":10,"
+                + "\"price\":15.99,\"createdAt\":\"2024-06-01T10:00:00\",\"version\":0}", lines[0]);
+        assertEquals(true, out.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+        verify(entityManager).detach(product1);
+        verify(entityManager).detach(product2);
+    }
+
+    @Test
+    void testExportCatalog_Empty() throws Exception {
+        when(productRepository.streamAll()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, productExportService.exportCatalog(out));
+        assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,120 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductImportResultDTO;
+import com.inventoryservice.ms.inventory_service.messaging.ProductInvalidationPublisher;
+import com.inventoryservice.ms.inventory_service.repositories.ProductBatchRepository;
+
+import jakarta.validation.Validation;
+
+public class ProductImportServiceTest {
+    private ProductBatchRepository productBatchRepository;
+    private ProductSearchIndex productSearchIndex;
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setup() {
+        productBatchRepository = mock(ProductBatchRepository.class);
+        productSearchIndex = mock(ProductSearchIndex.class);
+        productImportService = new ProductImportService(productBatchRepository,
+                new ProductCache(100, Duration.ofMinutes(5), mock(ProductInvalidationPublisher.class)),
+                productSearchIndex, Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 2);
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testImportJson_BatchesValidRowsAndReportsInvalidOnes() throws Exception {
+        String json = """
+                [
+                  {"name": "Caderno", "description": "Caderno 200 folhas", "availableQuantity": 10, "price": 15.99},
+                  {"name": "", "description": "Sem nome", "availableQuantity": 5, "price": 1.0},
+                  {"name": "Caneta", "description": "Caneta azul", "availableQuantity": "muitas", "price": 1.99},
+                  {"name": "Lápis", "description": "Lápis HB", "availableQuantity": 0, "price": 0.99},
+                  {"name": "Borracha", "description": "Borracha branca", "availableQuantity": 50, "price": 0.5},
+                  {"name": "Régua", "description": "Régua 30cm", "availableQuantity": 20, "price": 3.5}
+                ]
+                """;
+
+        ProductImportResultDTO result = productImportService.importProducts(body(json), MediaType.APPLICATION_JSON);
+
+        assertEquals(6, result.received());
+        assertEquals(3, result.imported());
+        assertEquals(3, result.failed());
+        assertEquals(List.of(2L, 3L, 4L), result.errors().stream().map(error -> error.row()).toList());
+        assertTrue(result.errors().get(0).message().startsWith("name:"));
+        verify(productBatchRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    void testImport_MarksInsertedProductsStaleForSearch() throws Exception {
+        String json = """
+                [
+                  {"name": "Caderno", "description": "Caderno 200 folhas", "availableQuantity": 10, "price": 15.99},
+                  {"name": "Caneta", "description": "Caneta azul", "availableQuantity": 20, "price": 1.99}
+                ]
+                """;
+        when(productBatchRepository.insertAll(anyList())).thenReturn(List.of(7L, 8L));
+
+        productImportService.importProducts(body(json), MediaType.APPLICATION_JSON);
+
+        verify(productSearchIndex).markStale(List.of(7L, 8L));
+    }
+
+    @Test
+    void testImportCsv() throws Exception {
+        String csv = """
+                name,description,availableQuantity,price
+                Caderno,"Caderno 200 folhas, capa dura",10,15.99
+                Caneta,Caneta azul,20,1.99
+                Lápis,Lápis HB,-1,0.99
+                """;
+
+        ProductImportResultDTO result = productImportService.importProducts(body(csv),
+                MediaType.valueOf("text/csv;charset=UTF-8"));
+
+        assertEquals(3, result.received());
+        assertEquals(2, result.imported());
+        assertEquals(3L, result.errors().get(0).row());
+    }
+
+    @Test
+    void testImport_FailedBatchIsReportedPerRow() throws Exception {
+        String json = """
+                [
+                  {"name": "Caderno", "description": "Caderno 200 folhas", "availableQuantity": 10, "price": 15.99},
+                  {"name": "Caneta", "description": "Caneta azul", "availableQuantity": 20, "price": 1.99}
+                ]
+                """;
+        doThrow(new DataIntegrityViolationException("value too long"))
+                .when(productBatchRepository).insertAll(anyList());
+
+        ProductImportResultDTO result = productImportService.importProducts(body(json), MediaType.APPLICATION_JSON);
+
+        assertEquals(0, result.imported());
+        assertEquals(2, result.failed());
+        assertEquals(List.of(1L, 2L), result.errors().stream().map(error -> error.row()).toList());
+    }
+}
@@ -0,0 +1,98 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.inventoryservice.ms.inventory_service.entities.Product;
+import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
+
+import jakarta.persistence.EntityManager;
+
+public class ProductSearchIndexTest {
+    private ProductRepository productRepository;
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        productRepository = mock(ProductRepository.class);
+        index = new ProductSearchIndex(productRepository, mock(EntityManager.class),
+                mock(PlatformTransactionManager.class));
+        index.index(product(1L, "Garrafa Térmica Inox 1L", "Garrafa térmica com vedação a vácuo"));
+        index.index(product(2L, "Caneta Esferográfica Azul", "Caneta com ponta 1.0mm e grip emborrachado"));
+        index.index(product(3L, "Lixeira Inox 5L", "Lixeira com pedal e acabamento em inox"));
+        index.index(product(4L, "Caderno Universitário", "Caderno com capa térmica"));
+    }
+
+    @Test
+    void testTermsFoldAccentsAndDropStopwords() {
+        assertEquals(List.of("garrafa", "termica", "vedacao", "vacuo"),
+                ProductSearchIndex.terms("Garrafa térmica com vedação a vácuo"));
+    }
+
+    @Test
+    void testSearchIgnoresAccentsAndCase() {
+        assertEquals(List.of(1L), index.search("GARRAFA TERMICA ", 10));
+        assertEquals(List.of(1L), index.search("vácuo ", 10));
+    }
+
+    @Test
+    void testNameMatchesRankBeforeDescriptionMatches() {
+        assertEquals(List.of(1L, 4L), index.search("termica ", 10));
+        assertEquals(List.of(1L, 3L), index.search("inox ", 10));
+    }
+
+    @Test
+    void testLastTermMatchesAsPrefixWhileTyping() {
+        assertEquals(List.of(2L, 4L), index.search("ca", 10));
+        assertEquals(List.of(2L), index.search("caneta esf", 10));
+        assertEquals(List.of(), index.search("ca ", 10));
+    }
+
+    @Test
+    void testSearchRespectsLimit() {
+        assertEquals(List.of(2L), index.search("ca", 1));
+    }
+
+    @Test
+    void testReindexReplacesOldTermsAndRemoveDropsProduct() {
+        index.index(product(2L, "Lápis Preto", "Lápis grafite HB"));
+        index.remove(3L);
+
+        assertEquals(List.of(), index.search("caneta ", 10));
+        assertEquals(List.of(2L), index.search("lapis ", 10));
+        assertEquals(List.of(1L), index.search("inox ", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testRefreshStaleReloadsChangedRemovedAndNewProducts() {
+        index.markStale(Set.of(1L, 3L, 5L));
+        when(productRepository.findAllById(Set.of(1L, 3L, 5L))).thenReturn(List.of(
+                product(1L, "Garrafa Squeeze", "Garrafa plástica 500ml"),
+                product(5L, "Mochila Térmica", "Mochila para marmita")));
+
+        index.refreshStale();
+
+        assertEquals(List.of(5L, 4L), index.search("termica ", 10));
+        assertEquals(List.of(1L), index.search("squeeze", 10));
+        assertEquals(List.of(), index.search("lixeira", 10));
+    }
+
+    private static Product product(Long id, String name, String description) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setDescription(description);
+        product.setAvailableQuantity(10);
+        product.setPrice(9.9);
+        return product;
+    }
+}
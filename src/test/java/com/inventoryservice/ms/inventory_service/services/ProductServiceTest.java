@@ -6,53 +6,85 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.inventoryservice.ms.inventory_service.entities.Product;
 import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductFilterDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductRequestDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.request.ProductUpdateRequestDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.StockAdjustmentDTO;
 import com.inventoryservice.ms.inventory_service.entities.dto.response.InventoryResponseDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductCursorPageDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductSummaryDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.ProductSummarySliceDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.StockAdjustmentResultDTO;
 import com.inventoryservice.ms.inventory_service.entities.enums.InventoryStatus;
+import com.inventoryservice.ms.inventory_service.entities.enums.OrderItemStatus;
+import com.inventoryservice.ms.inventory_service.entities.enums.StockAdjustmentStatus;
 import com.inventoryservice.ms.inventory_service.exceptions.AvaliableQuantityProductException;
+import com.inventoryservice.ms.inventory_service.exceptions.HotProductQuantityException;
+import com.inventoryservice.ms.inventory_service.exceptions.InsufficientStockException;
+import com.inventoryservice.ms.inventory_service.exceptions.InvalidCursorException;
+import com.inventoryservice.ms.inventory_service.exceptions.InvalidOrderQuantityException;
 import com.inventoryservice.ms.inventory_service.exceptions.ProductNotFoundException;
+import com.inventoryservice.ms.inventory_service.messaging.ProductInvalidationPublisher;
+import com.inventoryservice.ms.inventory_service.repositories.ProductBatchRepository;
 import com.inventoryservice.ms.inventory_service.repositories.ProductRepository;
 
 public class ProductServiceTest {
     private Product product1;
     private Product product2;
     private ProductRepository productRepository;
+    private ProductBatchRepository productBatchRepository;
+    private ProductCache productCache;
+    private ProductSearchIndex productSearchIndex;
     private ProductService productService;;
 
     @BeforeEach
     void setup() {
         productRepository = mock(ProductRepository.class);
-        productService = new ProductService(productRepository);
+        productBatchRepository = mock(ProductBatchRepository.class);
+        productCache = new ProductCache(100, Duration.ofMinutes(5), mock(ProductInvalidationPublisher.class));
+        productSearchIndex = mock(ProductSearchIndex.class);
+        productService = productServiceWithHotProducts(Set.of());
 
         product1 = new Product(
                 1L,
                 "Caderno universitário",
                 "Caderno universitário espiral 10 matérias, capa dura, 200 folhas",
                 100,
-                15.99, LocalDateTime.now());
+                15.99, LocalDateTime.now(), 0L);
 
         product2 = new Product(
                 2L,
                 "Caneta esferográfica",
                 "Caneta esferográfica azul, ponta fina, corpo transparente",
                 200,
-                1.99, LocalDateTime.now());
+                1.99, LocalDateTime.now(), 0L);
     }
 
     @Test
@@ -69,6 +101,29 @@ public class ProductServiceTest {
         assertEquals("Caneta esferográfica", result.getContent().get(1).getName());
     }
 
+    @Test
+    void testScroll_ReturnsCursorThatSeeksPastLastRow() {
+        when(productRepository.findFirstPage(Limit.of(2))).thenReturn(List.of(product1, product2));
+
+        ProductCursorPageDTO firstPage = productService.scroll(null, 1);
+
+        assertEquals(List.of(product1), firstPage.content());
+        assertNotNull(firstPage.nextCursor());
+
+        when(productRepository.findPageAfter(product1.getCreatedAt(), product1.getId(), Limit.of(2)))
+                .thenReturn(List.of(product2));
+
+        ProductCursorPageDTO secondPage = productService.scroll(firstPage.nextCursor(), 1);
+
+        assertEquals(List.of(product2), secondPage.content());
+        assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    void testScroll_InvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> productService.scroll("not-a-cursor", 10));
+    }
+
     @Test
     void testGetProductById() {
         when(productRepository.findById(product1.getId())).thenReturn(Optional.of(product1));
@@ -81,6 +136,71 @@ public class ProductServiceTest {
 
     }
 
+    @Test
+    void testFindById_ServedFromCache() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+
+        productService.findById(1L);
+        Product result = productService.findById(1L);
+
+        assertEquals(product1, result);
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testFindById_DoesNotCacheRowReadBeforeEviction() {
+        when(productRepository.findById(1L))
+                .thenAnswer(invocation -> {
+                    // A write commits and evicts while this row is being read.
+                    productCache.evictLocal(List.of(1L));
+                    return Optional.of(product1);
+                })
+                .thenReturn(Optional.of(product1));
+
+        productService.findById(1L);
+        productService.findById(1L);
+        productService.findById(1L);
+
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testFindVersion_UsesCachedProductBeforeVersionQuery() {
+        when(productRepository.findVersionById(1L)).thenReturn(Optional.of(4L));
+        assertEquals(4L, productService.findVersion(1L));
+
+        Product cached = new Product(1L, product1.getName(), product1.getDescription(), 5, product1.getPrice(),
+                product1.getCreatedAt(), 3L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(cached));
+        productService.findById(1L);
+
+        assertEquals(3L, productService.findVersion(1L));
+        verify(productRepository, times(1)).findVersionById(1L);
+    }
+
+    @Test
+    void testFindVersion_ProductNotFound() {
+        when(productRepository.findVersionById(2L)).thenReturn(Optional.empty());
+
+        assertThrows(ProductNotFoundException.class, () -> productService.findVersion(2L));
+    }
+
+    @Test
+    void testUpdateQuantity_InvalidatesCache() {
+        Product updated = new Product(1L, product1.getName(), product1.getDescription(), 5, product1.getPrice(),
+                product1.getCreatedAt(), 1L);
+        when(productRepository.findById(1L))
+                .thenReturn(Optional.of(product1))
+                .thenReturn(Optional.of(product1))
+                .thenReturn(Optional.of(updated));
+        when(productRepository.save(ArgumentMatchers.any(Product.class))).thenReturn(updated);
+
+        productService.findById(1L);
+        productService.updateQuantity(1L, 5);
+
+        assertEquals(5, productService.findById(1L).getAvailableQuantity());
+    }
+
     @Test
     void testFindById_ProductNotFound() {
         when(productRepository
@@ -119,6 +239,32 @@ public class ProductServiceTest {
         assertNotNull(result);
         assertEquals("Produto Atualizado", result.getName());
         assertEquals("Descricao Atualizada", result.getDescription());
+        verify(productSearchIndex).index(product1);
+    }
+
+    @Test
+    void testFilter_ReturnsSliceWithoutCount() {
+        ProductFilterDTO filter = new ProductFilterDTO(10.0, 20.0, 1, null, null, null);
+        PageRequest pageable = PageRequest.of(0, 1);
+        ProductSummaryDTO summary = new ProductSummaryDTO(1L, product1.getName(), product1.getPrice(),
+                product1.getAvailableQuantity(), product1.getCreatedAt());
+        when(productRepository.findSummaries(filter, pageable))
+                .thenReturn(new SliceImpl<>(List.of(summary), pageable, true));
+
+        ProductSummarySliceDTO result = productService.filter(filter, pageable);
+
+        assertEquals(new ProductSummarySliceDTO(List.of(summary), 0, 1, true), result);
+        verify(productRepository, never()).count();
+    }
+
+    @Test
+    void testSearch_ReturnsProductsInIndexOrder() {
+        when(productSearchIndex.search("cad", 20)).thenReturn(List.of(2L, 1L, 3L));
+        when(productRepository.findAllById(ArgumentMatchers.anyIterable())).thenReturn(List.of(product1, product2));
+
+        List<Product> results = productService.search("cad", 20);
+
+        assertEquals(List.of(product2, product1), results);
     }
 
     @Test
@@ -153,6 +299,30 @@ public class ProductServiceTest {
         assertEquals(50, result.getAvailableQuantity());
     }
 
+    @Test
+    void testUpdateQuantity_RetriesOnOptimisticLockFailure() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(productRepository.save(ArgumentMatchers.any(Product.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L))
+                .thenReturn(product1);
+
+        Product result = productService.updateQuantity(1L, 30);
+
+        assertEquals(30, result.getAvailableQuantity());
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testUpdateProduct_RetriesExhausted() {
+        ProductUpdateRequestDTO productUpdateDTO = new ProductUpdateRequestDTO("Produto Atualizado", null, null);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(productRepository.save(ArgumentMatchers.any(Product.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> productService.update(1L, productUpdateDTO));
+        verify(productRepository, times(3)).save(ArgumentMatchers.any(Product.class));
+    }
+
     @Test
     void testCreateProduct_InvalidQuantity() {
         ProductRequestDTO dto = new ProductRequestDTO("Produto", "Descricao", 0, 99.99);
@@ -200,6 +370,165 @@ public class ProductServiceTest {
         assertNull(response.data());
     }
 
+    @Test
+    void testValidateOrderItems_SingleLookup() {
+        List<CreateOrderItemDTO> items = List.of(
+                new CreateOrderItemDTO(product1.getId(), 10, null),
+                new CreateOrderItemDTO(product2.getId(), 20, null),
+                new CreateOrderItemDTO(product1.getId(), 5, null));
+        when(productRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(product1, product2));
+
+        List<InventoryResponseDTO> responses = productService.validateOrderItems(items);
+
+        assertEquals(3, responses.size());
+        responses.forEach(response -> assertEquals(InventoryStatus.SUCCESS, response.status()));
+        assertEquals(product2, responses.get(1).data());
+        verify(productRepository, times(1)).findAllById(ArgumentMatchers.anyIterable());
+        verify(productRepository, never()).findById(ArgumentMatchers.anyLong());
+    }
+
+    @Test
+    void testValidateOrderItems_MixedResults() {
+        List<CreateOrderItemDTO> items = List.of(
+                new CreateOrderItemDTO(product1.getId(), 10, null),
+                new CreateOrderItemDTO(product2.getId(), 500, null),
+                new CreateOrderItemDTO(999L, 1, null));
+        when(productRepository.findAllById(Set.of(1L, 2L, 999L))).thenReturn(List.of(product1, product2));
+
+        List<InventoryResponseDTO> responses = productService.validateOrderItems(items);
+
+        assertEquals(InventoryStatus.SUCCESS, responses.get(0).status());
+        assertEquals(InventoryStatus.ERROR, responses.get(1).status());
+        assertTrue(responses.get(1).message().contains("Estoque insuficiente"));
+        assertEquals(InventoryStatus.ERROR, responses.get(2).status());
+        assertTrue(responses.get(2).message().contains("não encontrado"));
+    }
+
+    @Test
+    void testCheckOrderItems_ReturnsFirstFailingOutcome() {
+        when(productRepository.findAllById(ArgumentMatchers.anyIterable())).thenReturn(List.of(product1, product2));
+
+        assertEquals(OrderItemStatus.AVAILABLE, productService.checkOrderItems(List.of(
+                new CreateOrderItemDTO(product1.getId(), 10, null),
+                new CreateOrderItemDTO(product2.getId(), 20, null))));
+        assertEquals(OrderItemStatus.INSUFFICIENT_STOCK, productService.checkOrderItems(List.of(
+                new CreateOrderItemDTO(product1.getId(), 10, null),
+                new CreateOrderItemDTO(product2.getId(), 500, null),
+                new CreateOrderItemDTO(999L, 1, null))));
+        assertEquals(OrderItemStatus.PRODUCT_NOT_FOUND, productService.checkOrderItems(List.of(
+                new CreateOrderItemDTO(999L, 1, null))));
+        assertEquals(OrderItemStatus.INVALID, productService.checkOrderItems(List.of(
+                new CreateOrderItemDTO(product1.getId(), null, null))));
+        assertEquals(OrderItemStatus.INVALID, productService.checkOrderItems(List.of(
+                new CreateOrderItemDTO(product1.getId(), 0, null))));
+    }
+
+    @Test
+    void testReserveOrderItems_Success() {
+        List<CreateOrderItemDTO> items = List.of(
+                new CreateOrderItemDTO(product2.getId(), 20, null),
+                new CreateOrderItemDTO(product1.getId(), 10, null),
+                new CreateOrderItemDTO(product1.getId(), 5, null));
+        when(productRepository.decrementAvailableQuantity(1L, 15)).thenReturn(1);
+        when(productRepository.decrementAvailableQuantity(2L, 20)).thenReturn(1);
+
+        productService.reserveOrderItems(items);
+
+        verify(productRepository).decrementAvailableQuantity(1L, 15);
+        verify(productRepository).decrementAvailableQuantity(2L, 20);
+    }
+
+    @Test
+    void testReserveOrderItems_InsufficientStock() {
+        List<CreateOrderItemDTO> items = List.of(new CreateOrderItemDTO(product1.getId(), 500, null));
+        when(productRepository.decrementAvailableQuantity(1L, 500)).thenReturn(0);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+
+        assertThrows(InsufficientStockException.class, () -> productService.reserveOrderItems(items));
+    }
+
+    @Test
+    void testReserveOrderItems_InvalidQuantity() {
+        List<CreateOrderItemDTO> items = List.of(new CreateOrderItemDTO(product1.getId(), -1, null));
+
+        assertThrows(InvalidOrderQuantityException.class, () -> productService.reserveOrderItems(items));
+        verify(productRepository, never()).decrementAvailableQuantity(ArgumentMatchers.anyLong(),
+                ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    void testReserveOrderItems_HotProductServedFromLedger() {
+        productService = productServiceWithHotProducts(Set.of(1L));
+        when(productRepository.decrementAvailableQuantity(1L, 50)).thenReturn(1);
+
+        productService.reserveOrderItems(List.of(new CreateOrderItemDTO(product1.getId(), 10, null)));
+        productService.reserveOrderItems(List.of(new CreateOrderItemDTO(product1.getId(), 10, null)));
+
+        verify(productRepository, times(1)).decrementAvailableQuantity(1L, 50);
+        verify(productRepository, never()).decrementAvailableQuantity(1L, 10);
+    }
+
+    @Test
+    void testReserveOrderItems_HotProductReleasedWhenLaterItemFails() {
+        HotStockLedger ledger = new HotStockLedger(Set.of(1L), 50, productRepository, productCache,
+                mock(PlatformTransactionManager.class));
+        productService = new ProductService(productRepository, productBatchRepository,
+                new OptimisticLockRetryExecutor(3, 0, 0), productCache, ledger, productSearchIndex);
+        when(productRepository.decrementAvailableQuantity(1L, 50)).thenReturn(1);
+        when(productRepository.decrementAvailableQuantity(2L, 500)).thenReturn(0);
+        when(productRepository.findById(2L)).thenReturn(Optional.of(product2));
+
+        assertThrows(InsufficientStockException.class, () -> productService.reserveOrderItems(List.of(
+                new CreateOrderItemDTO(product1.getId(), 10, null),
+                new CreateOrderItemDTO(product2.getId(), 500, null))));
+        assertEquals(50, ledger.available(1L));
+    }
+
+    @Test
+    void testHoldHotStock_ClaimsBeforeTheTransactionAndReserveSkipsHeldProducts() {
+        productService = productServiceWithHotProducts(Set.of(1L));
+        when(productRepository.decrementAvailableQuantity(1L, 50)).thenReturn(1);
+        when(productRepository.decrementAvailableQuantity(2L, 5)).thenReturn(1);
+        List<CreateOrderItemDTO> items = List.of(
+                new CreateOrderItemDTO(product1.getId(), 10, null),
+                new CreateOrderItemDTO(product2.getId(), 5, null));
+
+        Map<Long, Integer> held = productService.holdHotStock(items);
+        productService.reserveOrderItems(items, held);
+
+        assertEquals(Map.of(1L, 10), held);
+        verify(productRepository, times(1)).decrementAvailableQuantity(1L, 50);
+        verify(productRepository).decrementAvailableQuantity(2L, 5);
+    }
+
+    @Test
+    void testHoldHotStock_ReleasesEarlierProductsWhenOneRunsShort() {
+        HotStockLedger ledger = new HotStockLedger(Set.of(1L, 2L), 50, productRepository, productCache,
+                mock(PlatformTransactionManager.class));
+        productService = new ProductService(productRepository, productBatchRepository,
+                new OptimisticLockRetryExecutor(3, 0, 0), productCache, ledger, productSearchIndex);
+        when(productRepository.decrementAvailableQuantity(1L, 50)).thenReturn(1);
+        when(productRepository.findById(2L)).thenReturn(Optional.of(product2));
+
+        assertThrows(InsufficientStockException.class, () -> productService.holdHotStock(List.of(
+                new CreateOrderItemDTO(product1.getId(), 10, null),
+                new CreateOrderItemDTO(product2.getId(), 500, null))));
+        assertEquals(50, ledger.available(1L));
+    }
+
+    @Test
+    void testValidateOrderItem_CountsStockHeldByLedger() {
+        productService = productServiceWithHotProducts(Set.of(1L));
+        when(productRepository.decrementAvailableQuantity(1L, 50)).thenReturn(1);
+        productService.reserveOrderItems(List.of(new CreateOrderItemDTO(product1.getId(), 10, null)));
+        product1.setAvailableQuantity(50);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+
+        InventoryResponseDTO response = productService.validateOrderItem(new CreateOrderItemDTO(1L, 90, null));
+
+        assertEquals(InventoryStatus.SUCCESS, response.status());
+    }
+
     @Test
     void testIsInsufficientStock() {
         assertEquals(true, productService.isInsufficientStock(5, 3));
@@ -216,6 +545,61 @@ public class ProductServiceTest {
         assertEquals(false, productService.isAvailableQuantityInvalid(null));
     }
 
+    @Test
+    void testAdjustStockAppliesValidRowsInProductIdOrder() {
+        StockAdjustmentDTO second = new StockAdjustmentDTO(2L, -5, null);
+        StockAdjustmentDTO first = new StockAdjustmentDTO(1L, null, 40);
+        when(productBatchRepository.adjustQuantities(List.of(first, second))).thenReturn(new int[] { 1, 1 });
+
+        List<StockAdjustmentResultDTO> results = productService.adjustStock(List.of(second, first));
+
+        assertEquals(List.of(
+                new StockAdjustmentResultDTO(2L, StockAdjustmentStatus.APPLIED),
+                new StockAdjustmentResultDTO(1L, StockAdjustmentStatus.APPLIED)), results);
+        verify(productRepository, never()).findExistingIds(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testAdjustStockReportsRejectedAndInvalidRows() {
+        StockAdjustmentDTO insufficient = new StockAdjustmentDTO(1L, -500, null);
+        StockAdjustmentDTO missing = new StockAdjustmentDTO(99L, 3, null);
+        StockAdjustmentDTO bothSet = new StockAdjustmentDTO(2L, 1, 1);
+        StockAdjustmentDTO negative = new StockAdjustmentDTO(2L, null, -1);
+        when(productBatchRepository.adjustQuantities(List.of(insufficient, missing))).thenReturn(new int[] { 0, 0 });
+        when(productRepository.findExistingIds(Set.of(1L, 99L))).thenReturn(List.of(1L));
+
+        List<StockAdjustmentResultDTO> results = productService
+                .adjustStock(List.of(insufficient, missing, bothSet, negative));
+
+        assertEquals(List.of(
+                new StockAdjustmentResultDTO(1L, StockAdjustmentStatus.INSUFFICIENT_STOCK),
+                new StockAdjustmentResultDTO(99L, StockAdjustmentStatus.NOT_FOUND),
+                new StockAdjustmentResultDTO(2L, StockAdjustmentStatus.INVALID),
+                new StockAdjustmentResultDTO(2L, StockAdjustmentStatus.INVALID)), results);
+    }
+
+    @Test
+    void testAdjustStockRejectsAbsoluteQuantityForHotProducts() {
+        productService = productServiceWithHotProducts(Set.of(1L));
+        StockAdjustmentDTO absolute = new StockAdjustmentDTO(1L, null, 40);
+        StockAdjustmentDTO delta = new StockAdjustmentDTO(1L, 5, null);
+        when(productBatchRepository.adjustQuantities(List.of(delta))).thenReturn(new int[] { 1 });
+
+        List<StockAdjustmentResultDTO> results = productService.adjustStock(List.of(absolute, delta));
+
+        assertEquals(List.of(
+                new StockAdjustmentResultDTO(1L, StockAdjustmentStatus.HOT_PRODUCT),
+                new StockAdjustmentResultDTO(1L, StockAdjustmentStatus.APPLIED)), results);
+    }
+
+    @Test
+    void testUpdateQuantity_RejectsHotProduct() {
+        productService = productServiceWithHotProducts(Set.of(1L));
+
+        assertThrows(HotProductQuantityException.class, () -> productService.updateQuantity(1L, 30));
+        verify(productRepository, never()).save(ArgumentMatchers.any(Product.class));
+    }
+
     @Test
     void testCreateSuccessResponse() {
         String message = String.format("Produto ID %d validado com sucesso", product1.getId());
@@ -241,4 +625,10 @@ public class ProductServiceTest {
         assertEquals(errorMsg, response.message());
         assertNull(response.data());
     }
+
+    private ProductService productServiceWithHotProducts(Set<Long> hotProductIds) {
+        return new ProductService(productRepository, productBatchRepository, new OptimisticLockRetryExecutor(3, 0, 0),
+                productCache, new HotStockLedger(hotProductIds, 50, productRepository, productCache,
+                        mock(PlatformTransactionManager.class)), productSearchIndex);
+    }
 }
@@ -0,0 +1,103 @@
+package com.inventoryservice.ms.inventory_service.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.inventoryservice.ms.inventory_service.entities.StockReservation;
+import com.inventoryservice.ms.inventory_service.entities.dto.CreateOrderItemDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.request.StockAdjustmentDTO;
+import com.inventoryservice.ms.inventory_service.entities.dto.response.StockReservationDTO;
+import com.inventoryservice.ms.inventory_service.exceptions.ReservationNotFoundException;
+import com.inventoryservice.ms.inventory_service.messaging.ProductInvalidationPublisher;
+import com.inventoryservice.ms.inventory_service.repositories.ProductBatchRepository;
+import com.inventoryservice.ms.inventory_service.repositories.StockReservationRepository;
+
+public class ReservationServiceTest {
+    private ProductService productService;
+    private StockReservationRepository stockReservationRepository;
+    private ProductBatchRepository productBatchRepository;
+    private ReservationService reservationService;
+
+    @BeforeEach
+    void setup() {
+        productService = mock(ProductService.class);
+        stockReservationRepository = mock(StockReservationRepository.class);
+        productBatchRepository = mock(ProductBatchRepository.class);
+        reservationService = new ReservationService(productService, stockReservationRepository, productBatchRepository,
+                new ProductCache(0, Duration.ZERO, mock(ProductInvalidationPublisher.class)),
+                mock(PlatformTransactionManager.class), Duration.ofMinutes(15), 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReserveRecordsOneLinePerProduct() {
+        List<CreateOrderItemDTO> items = List.of(
+                new CreateOrderItemDTO(2L, 1, null),
+                new CreateOrderItemDTO(1L, 3, null),
+                new CreateOrderItemDTO(2L, 4, null));
+
+        StockReservationDTO reservation = reservationService.reserve("pedido-1", items, Map.of(1L, 3));
+
+        verify(productService).reserveOrderItems(items, Map.of(1L, 3));
+        ArgumentCaptor<List<StockReservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockReservationRepository).saveAll(captor.capture());
+        List<StockReservation> lines = captor.getValue();
+        assertEquals(2, lines.size());
+        assertEquals(1L, lines.get(0).getProductId());
+        assertEquals(5, lines.get(1).getQuantity());
+        assertEquals("pedido-1", reservation.reservationId());
+        assertEquals(reservation.expiresAt(), lines.get(0).getExpiresAt());
+    }
+
+    @Test
+    void testCancelRestoresStockInBulk() {
+        when(stockReservationRepository.findByReservationId("pedido-1")).thenReturn(List.of(
+                line(10L, 2L, 5), line(11L, 1L, 3)));
+
+        reservationService.cancel("pedido-1");
+
+        verify(productBatchRepository).adjustQuantities(List.of(
+                new StockAdjustmentDTO(1L, 3, null),
+                new StockAdjustmentDTO(2L, 5, null)));
+        verify(stockReservationRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+    }
+
+    @Test
+    void testConfirmUnknownReservationThrows() {
+        when(stockReservationRepository.deleteByReservationId("pedido-9")).thenReturn(0);
+
+        assertThrows(ReservationNotFoundException.class, () -> reservationService.confirm("pedido-9"));
+    }
+
+    @Test
+    void testReleaseExpiredSweepsUntilABatchComesBackShort() {
+        when(stockReservationRepository.lockExpired(any(LocalDateTime.class), any(Integer.class)))
+                .thenReturn(List.of(line(1L, 1L, 1), line(2L, 1L, 2)))
+                .thenReturn(List.of(line(3L, 2L, 4)));
+
+        reservationService.releaseExpired();
+
+        verify(productBatchRepository).adjustQuantities(List.of(new StockAdjustmentDTO(1L, 3, null)));
+        verify(productBatchRepository).adjustQuantities(List.of(new StockAdjustmentDTO(2L, 4, null)));
+        verify(stockReservationRepository, never()).deleteByReservationId(any());
+    }
+
+    private static StockReservation line(Long id, Long productId, int quantity) {
+        return new StockReservation(id, "pedido-1", productId, quantity, LocalDateTime.now());
+    }
+}